@@ -0,0 +1,47 @@
+package org.github.amsdec;
+
+final class CharSlice implements CharSequence {
+
+    private CharSequence chars;
+
+    private int start;
+
+    private int length;
+
+    CharSlice wrap(final CharSequence chars, final int start, final int end) {
+        this.chars = chars;
+        this.start = start;
+        this.length = end - start;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= this.length) {
+            throw new IndexOutOfBoundsException(String.format("Index %s is out of bounds for length %s", index,
+                    this.length));
+        }
+
+        return this.chars.charAt(this.start + index);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        if (start < 0 || end > this.length || start > end) {
+            throw new IndexOutOfBoundsException(String.format("Range [%s, %s) is out of bounds for length %s",
+                    start, end, this.length));
+        }
+
+        return this.chars.subSequence(this.start + start, this.start + end);
+    }
+
+    @Override
+    public String toString() {
+        return this.chars.subSequence(this.start, this.start + this.length).toString();
+    }
+}
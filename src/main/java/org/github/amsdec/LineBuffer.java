@@ -0,0 +1,52 @@
+package org.github.amsdec;
+
+class LineBuffer {
+
+    interface LineHandler {
+
+        void line(CharSequence chars, int start, int end);
+    }
+
+    private final StringBuilder pending = new StringBuilder();
+
+    private final LineHandler handler;
+
+    private int scanned;
+
+    LineBuffer(final LineHandler handler) {
+        this.handler = handler;
+    }
+
+    void append(final char[] chars, final int offset, final int length) {
+        this.pending.append(chars, offset, length);
+        this.drainLines();
+    }
+
+    void append(final CharSequence chars) {
+        this.pending.append(chars);
+        this.drainLines();
+    }
+
+    void finish() {
+        if (this.pending.length() > 0) {
+            this.handler.line(this.pending, 0, this.pending.length());
+        }
+
+        this.pending.setLength(0);
+        this.scanned = 0;
+    }
+
+    private void drainLines() {
+        int lineStart = 0;
+
+        for (int i = this.scanned; i < this.pending.length(); i++) {
+            if (this.pending.charAt(i) == '\n') {
+                this.handler.line(this.pending, lineStart, i);
+                lineStart = i + 1;
+            }
+        }
+
+        this.pending.delete(0, lineStart);
+        this.scanned = this.pending.length();
+    }
+}
@@ -0,0 +1,69 @@
+package org.github.amsdec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+final class MappedLineReader {
+
+    interface LineHandler {
+
+        void line(ByteBuffer bytes, int start, int end);
+    }
+
+    static final long MAX_REGION_SIZE = Integer.MAX_VALUE;
+
+    private MappedLineReader() {
+    }
+
+    static void read(final Path path, final LineHandler handler) throws IOException {
+        read(path, MAX_REGION_SIZE, handler);
+    }
+
+    static void read(final Path path, final long regionSize, final LineHandler handler) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+
+            long position = 0;
+            while (position < size) {
+                final int length = (int) Math.min(regionSize, size - position);
+                final boolean lastRegion = position + length == size;
+
+                final MappedByteBuffer region = channel.map(MapMode.READ_ONLY, position, length);
+                final int consumed = readLines(region, length, lastRegion, handler);
+
+                if (consumed == 0 && !lastRegion) {
+                    throw new IOException(String.format("Line at offset %s is longer than %s bytes", position,
+                            regionSize));
+                }
+
+                position += consumed;
+            }
+        }
+    }
+
+    private static int readLines(final MappedByteBuffer region, final int length, final boolean lastRegion,
+            final LineHandler handler) {
+        int lineStart = 0;
+
+        for (int i = 0; i < length; i++) {
+            if (region.get(i) == '\n') {
+                handler.line(region, lineStart, i);
+                lineStart = i + 1;
+            }
+        }
+
+        if (lastRegion) {
+            if (lineStart < length) {
+                handler.line(region, lineStart, length);
+            }
+            return length;
+        }
+
+        return lineStart;
+    }
+}
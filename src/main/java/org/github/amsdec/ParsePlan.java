@@ -0,0 +1,114 @@
+package org.github.amsdec;
+
+import java.util.function.BiConsumer;
+
+final class ParsePlan {
+
+    static final int HEADER = 0;
+
+    static final int REQUESTOR = 1;
+
+    static final int PROVIDER = 2;
+
+    static final int PRODUCTS = 3;
+
+    private static final int LINES = 4;
+
+    private final int[] columnCounts = new int[LINES];
+
+    private final int[][] columns = new int[LINES][];
+
+    private final BiConsumer<PurchaseOrderBuilder, CharSequence>[][] handlers;
+
+    private final int maxColumnCount;
+
+    private final int[] productColumns;
+
+    @SuppressWarnings("unchecked")
+    ParsePlan(final int[] fieldColumns) {
+        this.handlers = new BiConsumer[LINES][];
+
+        int maxColumnCount = 0;
+        for (int line = 0; line < LINES; line++) {
+            int fields = 0;
+            for (final PurchaseOrderField field : PurchaseOrderField.values()) {
+                if (field.line == line && fieldColumns[field.ordinal()] >= 0) {
+                    fields++;
+                }
+            }
+
+            this.columns[line] = new int[fields];
+            this.handlers[line] = new BiConsumer[fields];
+
+            int f = 0;
+            for (final PurchaseOrderField field : PurchaseOrderField.values()) {
+                final int column = fieldColumns[field.ordinal()];
+                if (field.line == line && column >= 0) {
+                    this.columns[line][f] = column;
+                    this.handlers[line][f] = field.handler;
+                    this.columnCounts[line] = Math.max(this.columnCounts[line], column + 1);
+                    f++;
+                }
+            }
+
+            maxColumnCount = Math.max(maxColumnCount, this.columnCounts[line]);
+        }
+
+        this.maxColumnCount = maxColumnCount;
+        this.productColumns = new int[] { //
+                fieldColumns[PurchaseOrderField.PRODUCT_ID.ordinal()], //
+                fieldColumns[PurchaseOrderField.PRODUCT_QUANTITY.ordinal()], //
+                fieldColumns[PurchaseOrderField.PRODUCT_DESCRIPTION.ordinal()] //
+        };
+    }
+
+    int getColumnCount(final int line) {
+        return this.columnCounts[line];
+    }
+
+    int[] getColumns(final int line) {
+        return this.columns[line];
+    }
+
+    BiConsumer<PurchaseOrderBuilder, CharSequence>[] getHandlers(final int line) {
+        return this.handlers[line];
+    }
+
+    int getProductIdColumn() {
+        return this.productColumns[0];
+    }
+
+    int getProductQuantityColumn() {
+        return this.productColumns[1];
+    }
+
+    int getProductDescriptionColumn() {
+        return this.productColumns[2];
+    }
+
+    int getMaxColumnCount() {
+        return this.maxColumnCount;
+    }
+
+    static int splitColumns(final CharSequence chars, final int start, final int end, final int columnCount,
+            final int[] columnStarts, final int[] columnEnds) {
+        int i = 0;
+        int columnStart = start;
+
+        for (int k = start; k <= end && i < columnCount; k++) {
+            if (k == end || chars.charAt(k) == '|') {
+                columnStarts[i] = columnStart;
+                columnEnds[i] = k;
+
+                i++;
+                columnStart = k + 1;
+            }
+        }
+
+        return i;
+    }
+
+    static int nextLine(final int line) {
+        return line == PRODUCTS ? PRODUCTS : line + 1;
+    }
+}
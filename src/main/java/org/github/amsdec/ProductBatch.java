@@ -0,0 +1,100 @@
+package org.github.amsdec;
+
+import java.util.Arrays;
+
+public class ProductBatch {
+
+    private String[] ids;
+
+    private String[] quantities;
+
+    private long[] quantityValues;
+
+    private boolean[] numeric;
+
+    private String[] descriptions;
+
+    private int size;
+
+    public ProductBatch() {
+        this(64);
+    }
+
+    public ProductBatch(final int capacity) {
+        this.ids = new String[capacity];
+        this.quantities = new String[capacity];
+        this.quantityValues = new long[capacity];
+        this.numeric = new boolean[capacity];
+        this.descriptions = new String[capacity];
+    }
+
+    public void add(final String id, final String quantity, final String description) {
+        this.add(id, quantity, false, 0, description);
+    }
+
+    public void add(final String id, final long quantity, final String description) {
+        this.add(id, null, true, quantity, description);
+    }
+
+    public void add(final String id, final String quantity, final long quantityValue, final String description) {
+        this.add(id, quantity, true, quantityValue, description);
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public String getId(final int i) {
+        return this.ids[i];
+    }
+
+    public boolean hasQuantity(final int i) {
+        return this.quantities[i] != null || this.numeric[i];
+    }
+
+    public boolean isQuantityNumeric(final int i) {
+        return this.numeric[i];
+    }
+
+    public long getQuantityValue(final int i) {
+        return this.quantityValues[i];
+    }
+
+    public String getQuantity(final int i) {
+        if (this.numeric[i] && this.quantities[i] == null) {
+            return Long.toString(this.quantityValues[i]);
+        }
+
+        return this.quantities[i];
+    }
+
+    public String getDescription(final int i) {
+        return this.descriptions[i];
+    }
+
+    public void clear() {
+        Arrays.fill(this.ids, 0, this.size, null);
+        Arrays.fill(this.quantities, 0, this.size, null);
+        Arrays.fill(this.descriptions, 0, this.size, null);
+        this.size = 0;
+    }
+
+    private void add(final String id, final String quantity, final boolean numericQuantity,
+            final long quantityValue, final String description) {
+        if (this.size == this.ids.length) {
+            final int capacity = Math.max(this.size * 2, 16);
+            this.ids = Arrays.copyOf(this.ids, capacity);
+            this.quantities = Arrays.copyOf(this.quantities, capacity);
+            this.quantityValues = Arrays.copyOf(this.quantityValues, capacity);
+            this.numeric = Arrays.copyOf(this.numeric, capacity);
+            this.descriptions = Arrays.copyOf(this.descriptions, capacity);
+        }
+
+        this.ids[this.size] = id;
+        this.quantities[this.size] = quantity;
+        this.quantityValues[this.size] = quantityValue;
+        this.numeric[this.size] = numericQuantity;
+        this.descriptions[this.size] = description;
+        this.size++;
+    }
+}
@@ -0,0 +1,239 @@
+package org.github.amsdec;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+import lombok.Setter;
+
+public class PurchaseOrderBatchParser<B extends PurchaseOrderBuilder> {
+
+    public static final char RECORD_SEPARATOR = '\u001E';
+
+    private static final int ORDERS_PER_TASK = 16;
+
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private final Supplier<B> builderSupplier;
+
+    private final PurchaseOrderLayout layout;
+
+    private final ForkJoinPool pool;
+
+    @Setter
+    private StringPool stringPool;
+
+    public PurchaseOrderBatchParser(final Supplier<B> builderSupplier) {
+        this(builderSupplier, ForkJoinPool.commonPool());
+    }
+
+    public PurchaseOrderBatchParser(final Supplier<B> builderSupplier, final ForkJoinPool pool) {
+        this(builderSupplier, PurchaseOrderLayout.DEFAULT, pool);
+    }
+
+    public PurchaseOrderBatchParser(final Supplier<B> builderSupplier, final PurchaseOrderLayout layout,
+            final ForkJoinPool pool) {
+        this.builderSupplier = builderSupplier;
+        this.layout = layout;
+        this.pool = pool;
+    }
+
+    public List<B> parse(final String string) {
+        if (string == null) {
+            return Collections.emptyList();
+        }
+
+        final int[] bounds = this.findOrderBounds(string);
+        final int orders = bounds.length / 2;
+
+        final Object[] builders = new Object[orders];
+        this.pool.invoke(new ParseOrdersTask(string, bounds, builders, 0, orders));
+
+        return this.asList(builders);
+    }
+
+    public List<B> parseFrom(final Path path) throws IOException {
+        return this.parseFrom(path, StandardCharsets.UTF_8);
+    }
+
+    public List<B> parseFrom(final Path path, final Charset charset) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, charset)) {
+            return this.parseFrom(reader);
+        }
+    }
+
+    public List<B> parseFrom(final Reader reader) throws IOException {
+        final List<ForkJoinTask<Object[]>> tasks = new ArrayList<>();
+        final StringBuilder order = new StringBuilder();
+        String[] orders = new String[ORDERS_PER_TASK];
+        int size = 0;
+
+        final char[] buffer = new char[READ_BUFFER_SIZE];
+        boolean skipNewline = false;
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            int runStart = 0;
+            if (skipNewline && buffer[0] == '\n') {
+                runStart = 1;
+            }
+            skipNewline = false;
+
+            for (int i = runStart; i < read; i++) {
+                if (buffer[i] != RECORD_SEPARATOR) {
+                    continue;
+                }
+
+                order.append(buffer, runStart, i - runStart);
+                if (!this.isBlank(order, 0, order.length())) {
+                    orders[size++] = order.toString();
+                    if (size == ORDERS_PER_TASK) {
+                        tasks.add(this.submit(orders, size));
+                        orders = new String[ORDERS_PER_TASK];
+                        size = 0;
+                    }
+                }
+                order.setLength(0);
+
+                runStart = i + 1;
+                if (runStart < read && buffer[runStart] == '\n') {
+                    runStart++;
+                    i++;
+                } else if (runStart == read) {
+                    skipNewline = true;
+                }
+            }
+            order.append(buffer, runStart, read - runStart);
+        }
+
+        if (!this.isBlank(order, 0, order.length())) {
+            orders[size++] = order.toString();
+        }
+        if (size > 0) {
+            tasks.add(this.submit(orders, size));
+        }
+
+        final List<Object> builders = new ArrayList<>();
+        for (final ForkJoinTask<Object[]> task : tasks) {
+            builders.addAll(Arrays.asList(task.join()));
+        }
+
+        return this.asList(builders.toArray());
+    }
+
+    private ForkJoinTask<Object[]> submit(final String[] orders, final int size) {
+        return this.pool.submit(() -> {
+            final Object[] builders = new Object[size];
+            for (int i = 0; i < size; i++) {
+                builders[i] = this.parseOrder(orders[i], 0, orders[i].length());
+            }
+            return builders;
+        });
+    }
+
+    private B parseOrder(final String string, final int start, final int end) {
+        final B builder = this.builderSupplier.get();
+        final PurchaseOrderStringParser parser = new PurchaseOrderStringParser(builder, this.layout);
+        parser.setStringPool(this.stringPool);
+        parser.parse(string, start, end);
+
+        return builder;
+    }
+
+    private int[] findOrderBounds(final String string) {
+        int[] bounds = new int[32];
+        int size = 0;
+
+        int orderStart = 0;
+        int orderEnd;
+        do {
+            orderEnd = string.indexOf(RECORD_SEPARATOR, orderStart);
+            if (orderEnd == -1) {
+                orderEnd = string.length();
+            }
+
+            if (!this.isBlank(string, orderStart, orderEnd)) {
+                if (size == bounds.length) {
+                    bounds = Arrays.copyOf(bounds, size * 2);
+                }
+                bounds[size++] = orderStart;
+                bounds[size++] = orderEnd;
+            }
+
+            orderStart = orderEnd + 1;
+            if (orderStart < string.length() && string.charAt(orderStart) == '\n') {
+                orderStart++;
+            }
+        } while (orderEnd < string.length());
+
+        return Arrays.copyOf(bounds, size);
+    }
+
+    private boolean isBlank(final CharSequence string, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            if (!Character.isWhitespace(string.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<B> asList(final Object[] builders) {
+        return (List<B>) (List<?>) Collections.unmodifiableList(Arrays.asList(builders));
+    }
+
+    private class ParseOrdersTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String string;
+
+        private final int[] bounds;
+
+        private final Object[] builders;
+
+        private final int from;
+
+        private final int to;
+
+        ParseOrdersTask(final String string, final int[] bounds, final Object[] builders, final int from,
+                final int to) {
+            this.string = string;
+            this.bounds = bounds;
+            this.builders = builders;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= ORDERS_PER_TASK) {
+                this.parseOrders();
+                return;
+            }
+
+            final int middle = (this.from + this.to) >>> 1;
+            invokeAll(new ParseOrdersTask(this.string, this.bounds, this.builders, this.from, middle),
+                    new ParseOrdersTask(this.string, this.bounds, this.builders, middle, this.to));
+        }
+
+        private void parseOrders() {
+            for (int i = this.from; i < this.to; i++) {
+                this.builders[i] = PurchaseOrderBatchParser.this.parseOrder(this.string, this.bounds[2 * i],
+                        this.bounds[2 * i + 1]);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.github.amsdec;
+
+public final class PurchaseOrderBinaryFormat {
+
+    public static final byte[] MAGIC = { 'P', 'O', 'B', 1 };
+
+    public static final int PURCHASE_ORDER_NUMBER = 1;
+
+    public static final int DATE = 2;
+
+    public static final int DELIVERY_ADDRESS = 3;
+
+    public static final int REQUESTOR_RFC = 4;
+
+    public static final int REQUESTOR_NAME = 5;
+
+    public static final int PROVIDER_RFC = 6;
+
+    public static final int PROVIDER_NAME = 7;
+
+    public static final int PRODUCT = 8;
+
+    public static final int PRODUCT_QUANTITY = 9;
+
+    public static final int PRODUCT_DESCRIPTION = 10;
+
+    public static final int PRODUCT_QUANTITY_VALUE = 11;
+
+    public static final int NEW_DICTIONARY_ENTRY = 0;
+
+    private PurchaseOrderBinaryFormat() {
+    }
+}
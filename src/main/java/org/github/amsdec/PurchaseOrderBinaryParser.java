@@ -0,0 +1,225 @@
+package org.github.amsdec;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Setter;
+
+public class PurchaseOrderBinaryParser {
+
+    public static final int DEFAULT_MAX_FRAME_LENGTH = 64 * 1024 * 1024;
+
+    private static final int MAX_VARINT_BYTES = 5;
+
+    private static final int MAX_LONG_VARINT_BYTES = 9;
+
+    private final PurchaseOrderBuilder builder;
+
+    @Setter
+    private int maxFrameLength = DEFAULT_MAX_FRAME_LENGTH;
+
+    private byte[] payload;
+
+    private int position;
+
+    private int end;
+
+    public PurchaseOrderBinaryParser(final PurchaseOrderBuilder builder) {
+        this.builder = builder;
+    }
+
+    public void parse(final byte[] bytes) {
+        if (bytes == null) {
+            return;
+        }
+
+        this.payload = bytes;
+        this.position = 0;
+
+        for (final byte magic : PurchaseOrderBinaryFormat.MAGIC) {
+            if (this.position >= bytes.length || bytes[this.position++] != magic) {
+                throw new IllegalArgumentException("Not a binary purchase order");
+            }
+        }
+
+        this.end = bytes.length;
+        final int length = this.readVarint();
+        if (length > bytes.length - this.position) {
+            throw new IllegalArgumentException("Truncated binary purchase order");
+        }
+
+        this.parsePayload(this.position + length);
+    }
+
+    public boolean parseFrom(final InputStream inputStream) throws IOException {
+        final DataInputStream in = new DataInputStream(inputStream);
+
+        final int first = in.read();
+        if (first == -1) {
+            return false;
+        }
+
+        final byte[] magic = new byte[PurchaseOrderBinaryFormat.MAGIC.length];
+        magic[0] = (byte) first;
+        in.readFully(magic, 1, magic.length - 1);
+        for (int i = 0; i < magic.length; i++) {
+            if (magic[i] != PurchaseOrderBinaryFormat.MAGIC[i]) {
+                throw new IOException("Not a binary purchase order");
+            }
+        }
+
+        final int length = this.readFrameLength(in);
+
+        this.payload = new byte[length];
+        this.position = 0;
+        in.readFully(this.payload);
+
+        this.parsePayload(length);
+        return true;
+    }
+
+    private int readFrameLength(final DataInputStream in) throws IOException {
+        long length = 0;
+        int shift = 0;
+        int b;
+        do {
+            if (shift == 7 * MAX_VARINT_BYTES) {
+                throw new IOException("Malformed binary purchase order frame length");
+            }
+
+            b = in.readUnsignedByte();
+            length |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        if (length > this.maxFrameLength) {
+            throw new IOException(String.format("Binary purchase order frame of %s bytes exceeds %s bytes", length,
+                    this.maxFrameLength));
+        }
+
+        return (int) length;
+    }
+
+    private void parsePayload(final int end) {
+        this.end = end;
+
+        final List<String> descriptions = new ArrayList<>();
+
+        while (this.position < end) {
+            final int field = this.payload[this.position++];
+
+            switch (field) {
+            case PurchaseOrderBinaryFormat.PURCHASE_ORDER_NUMBER:
+                this.builder.addPurchaseOrderNumber(this.readString());
+                break;
+            case PurchaseOrderBinaryFormat.DATE:
+                this.builder.addDate(this.readString());
+                break;
+            case PurchaseOrderBinaryFormat.DELIVERY_ADDRESS:
+                this.builder.addDeliveryAddress(this.readString());
+                break;
+            case PurchaseOrderBinaryFormat.REQUESTOR_RFC:
+                this.builder.addRequestorRfc(this.readString());
+                break;
+            case PurchaseOrderBinaryFormat.REQUESTOR_NAME:
+                this.builder.addRequestorName(this.readString());
+                break;
+            case PurchaseOrderBinaryFormat.PROVIDER_RFC:
+                this.builder.addProviderRfc(this.readString());
+                break;
+            case PurchaseOrderBinaryFormat.PROVIDER_NAME:
+                this.builder.addProviderName(this.readString());
+                break;
+            case PurchaseOrderBinaryFormat.PRODUCT:
+                this.builder.addProduct(this.readString());
+                break;
+            case PurchaseOrderBinaryFormat.PRODUCT_QUANTITY:
+                this.builder.setProductQuantity(this.readString());
+                break;
+            case PurchaseOrderBinaryFormat.PRODUCT_QUANTITY_VALUE:
+                this.builder.setProductQuantity(this.readLongVarint());
+                break;
+            case PurchaseOrderBinaryFormat.PRODUCT_DESCRIPTION:
+                this.builder.setProductDescription(this.readDescription(descriptions));
+                break;
+            default:
+                throw new IllegalArgumentException(
+                        String.format("Unknown field %s at offset %s", field, this.position - 1));
+            }
+        }
+    }
+
+    private String readDescription(final List<String> descriptions) {
+        final int entry = this.readVarint();
+        if (entry != PurchaseOrderBinaryFormat.NEW_DICTIONARY_ENTRY) {
+            if (entry > descriptions.size()) {
+                throw new IllegalArgumentException(
+                        String.format("Unknown description %s at offset %s", entry, this.position));
+            }
+            return descriptions.get(entry - 1);
+        }
+
+        final String description = this.readString();
+        descriptions.add(description);
+        return description;
+    }
+
+    private String readString() {
+        final int length = this.readVarint();
+        if (length > this.end - this.position) {
+            throw new IllegalArgumentException(
+                    String.format("String of %s bytes at offset %s exceeds frame", length, this.position));
+        }
+
+        final String value = new String(this.payload, this.position, length, StandardCharsets.UTF_8);
+        this.position += length;
+
+        return value;
+    }
+
+    private long readLongVarint() {
+        final int start = this.position;
+
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (this.position >= this.end || shift == 7 * MAX_LONG_VARINT_BYTES) {
+                throw new IllegalArgumentException(String.format("Malformed varint at offset %s", start));
+            }
+
+            b = this.payload[this.position++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        return value;
+    }
+
+    private int readVarint() {
+        final int start = this.position;
+
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (this.position >= this.end || shift == 7 * MAX_VARINT_BYTES) {
+                throw new IllegalArgumentException(String.format("Malformed varint at offset %s", start));
+            }
+
+            b = this.payload[this.position++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format("Malformed varint at offset %s", start));
+        }
+
+        return (int) value;
+    }
+}
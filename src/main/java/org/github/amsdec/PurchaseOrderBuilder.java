@@ -21,4 +21,72 @@ public interface PurchaseOrderBuilder {
     void setProductQuantity(String quantity);
 
     void setProductDescription(String description);
+
+    default void setProductQuantity(final long quantity) {
+        this.setProductQuantity(Long.toString(quantity));
+    }
+
+    /** {@code number} is only valid during this call; copy it, e.g. with toString(), to keep it. */
+    default void addPurchaseOrderNumber(final CharSequence number) {
+        this.addPurchaseOrderNumber(number.toString());
+    }
+
+    /** {@code date} is only valid during this call; copy it, e.g. with toString(), to keep it. */
+    default void addDate(final CharSequence date) {
+        this.addDate(date.toString());
+    }
+
+    /** {@code address} is only valid during this call; copy it, e.g. with toString(), to keep it. */
+    default void addDeliveryAddress(final CharSequence address) {
+        this.addDeliveryAddress(address.toString());
+    }
+
+    /** {@code rfc} is only valid during this call; copy it, e.g. with toString(), to keep it. */
+    default void addRequestorRfc(final CharSequence rfc) {
+        this.addRequestorRfc(rfc.toString());
+    }
+
+    /** {@code requestor} is only valid during this call; copy it, e.g. with toString(), to keep it. */
+    default void addRequestorName(final CharSequence requestor) {
+        this.addRequestorName(requestor.toString());
+    }
+
+    /** {@code rfc} is only valid during this call; copy it, e.g. with toString(), to keep it. */
+    default void addProviderRfc(final CharSequence rfc) {
+        this.addProviderRfc(rfc.toString());
+    }
+
+    /** {@code provider} is only valid during this call; copy it, e.g. with toString(), to keep it. */
+    default void addProviderName(final CharSequence provider) {
+        this.addProviderName(provider.toString());
+    }
+
+    /** {@code productId} is only valid during this call; copy it, e.g. with toString(), to keep it. */
+    default void addProduct(final CharSequence productId) {
+        this.addProduct(productId.toString());
+    }
+
+    /** {@code quantity} is only valid during this call; copy it, e.g. with toString(), to keep it. */
+    default void setProductQuantity(final CharSequence quantity) {
+        this.setProductQuantity(quantity.toString());
+    }
+
+    /** {@code description} is only valid during this call; copy it, e.g. with toString(), to keep it. */
+    default void setProductDescription(final CharSequence description) {
+        this.setProductDescription(description.toString());
+    }
+
+    default void addProducts(final ProductBatch products) {
+        for (int i = 0; i < products.size(); i++) {
+            if (products.getId(i) != null) {
+                this.addProduct(products.getId(i));
+            }
+            if (products.hasQuantity(i)) {
+                this.setProductQuantity(products.getQuantity(i));
+            }
+            if (products.getDescription(i) != null) {
+                this.setProductDescription(products.getDescription(i));
+            }
+        }
+    }
 }
@@ -0,0 +1,35 @@
+package org.github.amsdec;
+
+import java.util.function.BiConsumer;
+
+public enum PurchaseOrderField {
+
+    PURCHASE_ORDER_NUMBER(ParsePlan.HEADER, PurchaseOrderBuilder::addPurchaseOrderNumber),
+
+    DATE(ParsePlan.HEADER, PurchaseOrderBuilder::addDate),
+
+    DELIVERY_ADDRESS(ParsePlan.HEADER, PurchaseOrderBuilder::addDeliveryAddress),
+
+    REQUESTOR_RFC(ParsePlan.REQUESTOR, PurchaseOrderBuilder::addRequestorRfc),
+
+    REQUESTOR_NAME(ParsePlan.REQUESTOR, PurchaseOrderBuilder::addRequestorName),
+
+    PROVIDER_RFC(ParsePlan.PROVIDER, PurchaseOrderBuilder::addProviderRfc),
+
+    PROVIDER_NAME(ParsePlan.PROVIDER, PurchaseOrderBuilder::addProviderName),
+
+    PRODUCT_ID(ParsePlan.PRODUCTS, PurchaseOrderBuilder::addProduct),
+
+    PRODUCT_QUANTITY(ParsePlan.PRODUCTS, PurchaseOrderBuilder::setProductQuantity),
+
+    PRODUCT_DESCRIPTION(ParsePlan.PRODUCTS, PurchaseOrderBuilder::setProductDescription);
+
+    final int line;
+
+    final BiConsumer<PurchaseOrderBuilder, CharSequence> handler;
+
+    PurchaseOrderField(final int line, final BiConsumer<PurchaseOrderBuilder, CharSequence> handler) {
+        this.line = line;
+        this.handler = handler;
+    }
+}
@@ -0,0 +1,55 @@
+package org.github.amsdec;
+
+import java.util.Arrays;
+
+public final class PurchaseOrderLayout {
+
+    public static final PurchaseOrderLayout DEFAULT = new PurchaseOrderLayout(new int[] { //
+            0, 1, 2, // header
+            0, 1, // requestor
+            0, 1, // provider
+            0, 1, 2 // product
+    });
+
+    private static final int NO_COLUMN = -1;
+
+    private final int[] columns;
+
+    private final ParsePlan plan;
+
+    private PurchaseOrderLayout(final int[] columns) {
+        this.columns = columns;
+        this.plan = new ParsePlan(columns);
+    }
+
+    public PurchaseOrderLayout withColumn(final PurchaseOrderField field, final int column) {
+        if (column < 0) {
+            throw new IllegalArgumentException(String.format("Invalid column %s for %s", column, field));
+        }
+
+        final int[] newColumns = Arrays.copyOf(this.columns, this.columns.length);
+        for (final PurchaseOrderField other : PurchaseOrderField.values()) {
+            if (other != field && other.line == field.line && newColumns[other.ordinal()] == column) {
+                newColumns[other.ordinal()] = NO_COLUMN;
+            }
+        }
+        newColumns[field.ordinal()] = column;
+
+        return new PurchaseOrderLayout(newColumns);
+    }
+
+    public PurchaseOrderLayout withoutField(final PurchaseOrderField field) {
+        final int[] newColumns = Arrays.copyOf(this.columns, this.columns.length);
+        newColumns[field.ordinal()] = NO_COLUMN;
+
+        return new PurchaseOrderLayout(newColumns);
+    }
+
+    public int getColumn(final PurchaseOrderField field) {
+        return this.columns[field.ordinal()];
+    }
+
+    ParsePlan getPlan() {
+        return this.plan;
+    }
+}
@@ -0,0 +1,127 @@
+package org.github.amsdec;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+public class PurchaseOrderPushParser {
+
+    private static final int DECODE_BUFFER_SIZE = 8192;
+
+    private final PurchaseOrderStringParser parser;
+
+    private final LineBuffer lines;
+
+    private final CharsetDecoder decoder;
+
+    private final CharBuffer decoded = CharBuffer.allocate(DECODE_BUFFER_SIZE);
+
+    private ByteBuffer pendingBytes = ByteBuffer.allocate(16);
+
+    private boolean orderFinished;
+
+    public PurchaseOrderPushParser(final PurchaseOrderBuilder builder) {
+        this(builder, StandardCharsets.UTF_8);
+    }
+
+    public PurchaseOrderPushParser(final PurchaseOrderBuilder builder, final Charset charset) {
+        this(builder, PurchaseOrderLayout.DEFAULT, charset);
+    }
+
+    public PurchaseOrderPushParser(final PurchaseOrderBuilder builder, final PurchaseOrderLayout layout,
+            final Charset charset) {
+        this.parser = new PurchaseOrderStringParser(builder, layout);
+        this.lines = new LineBuffer(this.parser::parseLine);
+        this.decoder = charset.newDecoder() //
+                .onMalformedInput(CodingErrorAction.REPLACE) //
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+        this.parser.startOrder();
+    }
+
+    public void feed(final CharSequence chars) {
+        if (chars == null) {
+            return;
+        }
+
+        this.startNextOrder();
+        this.lines.append(chars);
+        this.parser.finishOrder();
+    }
+
+    public void feed(final ByteBuffer bytes) {
+        if (bytes == null) {
+            return;
+        }
+
+        this.startNextOrder();
+        if (this.pendingBytes.position() == 0) {
+            this.decode(bytes, false);
+            this.keepPendingBytes(bytes);
+        } else {
+            this.keepPendingBytes(bytes);
+            this.pendingBytes.flip();
+            this.decode(this.pendingBytes, false);
+            this.pendingBytes.compact();
+        }
+
+        this.parser.finishOrder();
+    }
+
+    public void finish() {
+        this.pendingBytes.flip();
+        this.decode(this.pendingBytes, true);
+        this.pendingBytes.clear();
+
+        this.decoder.flush(this.decoded);
+        this.appendDecoded();
+        this.decoder.reset();
+
+        this.lines.finish();
+        this.parser.finishOrder();
+        this.orderFinished = true;
+    }
+
+    public int getProductLineCount() {
+        return this.parser.getProductLineCount();
+    }
+
+    public long getQuantityTotal() {
+        return this.parser.getQuantityTotal();
+    }
+
+    private void startNextOrder() {
+        if (this.orderFinished) {
+            this.parser.startOrder();
+            this.orderFinished = false;
+        }
+    }
+
+    private void decode(final ByteBuffer bytes, final boolean endOfInput) {
+        CoderResult result;
+        do {
+            result = this.decoder.decode(bytes, this.decoded, endOfInput);
+            this.appendDecoded();
+        } while (result.isOverflow());
+    }
+
+    private void appendDecoded() {
+        this.lines.append(this.decoded.array(), 0, this.decoded.position());
+        this.decoded.clear();
+    }
+
+    private void keepPendingBytes(final ByteBuffer bytes) {
+        if (this.pendingBytes.remaining() < bytes.remaining()) {
+            final ByteBuffer grown = ByteBuffer.allocate(this.pendingBytes.position() + bytes.remaining());
+            this.pendingBytes.flip();
+            grown.put(this.pendingBytes);
+            this.pendingBytes = grown;
+        }
+
+        this.pendingBytes.put(bytes);
+    }
+}
@@ -1,13 +1,72 @@
 package org.github.amsdec;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.BiConsumer;
 
+import lombok.Getter;
+import lombok.Setter;
+
 public class PurchaseOrderStringParser {
 
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private static final int PARALLEL_PRODUCTS_THRESHOLD = 1 << 16;
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private static final int PRODUCT_BATCH_SIZE = 256;
+
     private final PurchaseOrderBuilder builder;
 
+    private final ParsePlan plan;
+
+    private final int[] columnStarts;
+
+    private final int[] columnEnds;
+
+    private final CharSlice slice = new CharSlice();
+
+    private final ProductBatch products = new ProductBatch(PRODUCT_BATCH_SIZE);
+
+    private int state;
+
+    @Getter
+    private int productLineCount;
+
+    @Getter
+    private long quantityTotal;
+
+    private long lastQuantity;
+
+    private byte[] decodeBuffer = new byte[256];
+
+    @Setter
+    private ForkJoinPool productPool;
+
+    @Setter
+    private StringPool stringPool;
+
     public PurchaseOrderStringParser(final PurchaseOrderBuilder builder) {
+        this(builder, PurchaseOrderLayout.DEFAULT);
+    }
+
+    public PurchaseOrderStringParser(final PurchaseOrderBuilder builder, final PurchaseOrderLayout layout) {
         this.builder = builder;
+        this.plan = layout.getPlan();
+        this.columnStarts = new int[this.plan.getMaxColumnCount()];
+        this.columnEnds = new int[this.plan.getMaxColumnCount()];
     }
 
     public void parse(final String string) {
@@ -15,84 +74,309 @@ public class PurchaseOrderStringParser {
             return;
         }
 
-        this.parseLines(string);
+        this.parseLines(string, 0, string.length());
 
     }
 
-    private void parseLines(final String string) {
-        final String[] lines = string.split("\n");
+    void parse(final String string, final int start, final int end) {
+        this.parseLines(string, start, end);
+    }
 
-        for (int j = 0; j < lines.length; j++) {
-            this.parseLine(j, lines[j]);
+    public void parseFrom(final Reader reader) throws IOException {
+        if (reader == null) {
+            return;
         }
+
+        this.startOrder();
+        final LineBuffer lines = new LineBuffer(this::parseLine);
+        final char[] buffer = new char[READ_BUFFER_SIZE];
+
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            lines.append(buffer, 0, read);
+        }
+
+        lines.finish();
+        this.finishOrder();
     }
 
-    private void parseLine(final int j, final String line) {
-        final String[] columns = line.split("\\|");
+    public void parseFrom(final InputStream inputStream, final Charset charset) throws IOException {
+        if (inputStream == null) {
+            return;
+        }
+
+        this.parseFrom(new InputStreamReader(inputStream, charset));
+    }
+
+    public void parseFrom(final Path path) throws IOException {
+        this.parseFrom(path, StandardCharsets.UTF_8);
+    }
+
+    public void parseFrom(final Path path, final Charset charset) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            this.parseFrom(inputStream, charset);
+        }
+    }
+
+    public void parseMapped(final Path path) throws IOException {
+        if (path == null) {
+            return;
+        }
+
+        this.startOrder();
+        MappedLineReader.read(path, this::parseLine);
+        this.finishOrder();
+    }
+
+    void startOrder() {
+        this.products.clear();
+        this.state = ParsePlan.HEADER;
+        this.productLineCount = 0;
+        this.quantityTotal = 0;
+        this.lastQuantity = 0;
+    }
+
+    private void parseLines(final String string, final int start, final int end) {
+        this.startOrder();
+
+        int lineStart = start;
+        int lineEnd;
+        while ((lineEnd = string.indexOf('\n', lineStart)) != -1 && lineEnd < end) {
+            this.parseLine(string, lineStart, lineEnd);
+            lineStart = lineEnd + 1;
+
+            if (this.state == ParsePlan.PRODUCTS && this.productPool != null
+                    && end - lineStart >= PARALLEL_PRODUCTS_THRESHOLD) {
+                this.parseProductsInParallel(string, lineStart, end);
+                return;
+            }
+        }
+
+        this.parseLine(string, lineStart, end);
+        this.finishOrder();
+    }
+
+    private void parseProductsInParallel(final String string, final int start, final int end) {
+        final int chunkCount = this.productPool.getParallelism() * CHUNKS_PER_THREAD;
+        final int chunkSize = Math.max((end - start) / chunkCount, 1);
+        final List<ForkJoinTask<ProductBatch>> chunks = new ArrayList<>(chunkCount);
+
+        int chunkStart = start;
+        while (chunkStart < end) {
+            int chunkEnd = string.indexOf('\n', Math.min(chunkStart + chunkSize, end - 1));
+            chunkEnd = chunkEnd == -1 || chunkEnd >= end ? end : chunkEnd + 1;
+
+            final int from = chunkStart;
+            final int to = chunkEnd;
+            chunks.add(this.productPool.submit(() -> this.tokenizeProducts(string, from, to)));
+
+            chunkStart = chunkEnd;
+        }
 
-        if (j == 0) {
-            this.parseLineColumns(columns, this::parseHeaderColumn);
+        this.finishOrder();
+        for (final ForkJoinTask<ProductBatch> chunk : chunks) {
+            this.deliver(chunk.join());
         }
-        if (j == 1) {
-            this.parseLineColumns(columns, this::parseRequestorColumn);
+    }
+
+    private ProductBatch tokenizeProducts(final String string, final int start, final int end) {
+        final int columnCount = this.plan.getColumnCount(ParsePlan.PRODUCTS);
+        final int[] starts = new int[columnCount];
+        final int[] ends = new int[columnCount];
+        final ProductBatch products = new ProductBatch();
+
+        int lineStart = start;
+        while (lineStart < end) {
+            int lineEnd = string.indexOf('\n', lineStart);
+            if (lineEnd == -1 || lineEnd > end) {
+                lineEnd = end;
+            }
+
+            final int found = ParsePlan.splitColumns(string, lineStart, lineEnd, columnCount, starts, ends);
+            this.addProduct(products, string, found, starts, ends);
+
+            lineStart = lineEnd + 1;
         }
-        if (j == 2) {
-            this.parseLineColumns(columns, this::parseProviderColumn);
+
+        return products;
+    }
+
+    void parseLine(final CharSequence chars, final int start, final int end) {
+        final int line = this.state;
+
+        final int found = ParsePlan.splitColumns(chars, start, end, this.plan.getColumnCount(line),
+                this.columnStarts, this.columnEnds);
+
+        if (line == ParsePlan.PRODUCTS) {
+            this.addProduct(this.products, chars, found, this.columnStarts, this.columnEnds);
+            return;
         }
-        if (j >= 3) {
-            this.parseLineColumns(columns, this::parseProductColumn);
+
+        final int[] columns = this.plan.getColumns(line);
+        final BiConsumer<PurchaseOrderBuilder, CharSequence>[] handlers = this.plan.getHandlers(line);
+
+        for (int f = 0; f < columns.length; f++) {
+            final CharSequence value = this.slice(chars, found, columns[f]);
+            if (value != null) {
+                handlers[f].accept(this.builder, value);
+            }
         }
+
+        this.state = ParsePlan.nextLine(line);
     }
 
-    private void parseLineColumns(final String[] columns, final BiConsumer<Integer, String> columnParser) {
-        for (int i = 0; i < columns.length; i++) {
-            if ("".equals(columns[i])) {
-                continue;
+    void parseLine(final ByteBuffer bytes, final int start, final int end) {
+        final int line = this.state;
+
+        final int found = this.splitColumns(bytes, start, end, this.plan.getColumnCount(line));
+
+        if (line == ParsePlan.PRODUCTS) {
+            final int quantityColumn = this.plan.getProductQuantityColumn();
+            final long quantity = quantityColumn < 0 || quantityColumn >= found ? Quantities.NOT_NUMERIC
+                    : Quantities.parse(bytes, this.columnStarts[quantityColumn], this.columnEnds[quantityColumn]);
+            final String quantityText = quantity == Quantities.NOT_NUMERIC || Quantities.hasLeadingZero(bytes,
+                    this.columnStarts[quantityColumn], this.columnEnds[quantityColumn])
+                            ? this.field(bytes, found, quantityColumn)
+                            : null;
+
+            this.addProduct(this.products, //
+                    this.field(bytes, found, this.plan.getProductIdColumn()), //
+                    quantityText, //
+                    quantity, //
+                    this.field(bytes, found, this.plan.getProductDescriptionColumn()));
+            return;
+        }
+
+        final int[] columns = this.plan.getColumns(line);
+        final BiConsumer<PurchaseOrderBuilder, CharSequence>[] handlers = this.plan.getHandlers(line);
+
+        for (int f = 0; f < columns.length; f++) {
+            final String value = this.field(bytes, found, columns[f]);
+            if (value != null) {
+                handlers[f].accept(this.builder, value);
             }
+        }
 
-            columnParser.accept(i, columns[i]);
+        this.state = ParsePlan.nextLine(line);
+    }
+
+    void finishOrder() {
+        if (this.products.size() > 0) {
+            try {
+                this.deliver(this.products);
+            } finally {
+                this.products.clear();
+            }
         }
     }
 
-    private void parseHeaderColumn(final int i, final String column) {
-        if (i == 0) {
-            this.builder.addPurchaseOrderNumber(column);
+    private void deliver(final ProductBatch batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            if (batch.getId(i) != null) {
+                this.productLineCount++;
+                this.lastQuantity = 0;
+            }
+            if (batch.isQuantityNumeric(i) && this.productLineCount > 0) {
+                this.quantityTotal += batch.getQuantityValue(i) - this.lastQuantity;
+                this.lastQuantity = batch.getQuantityValue(i);
+            }
         }
-        if (i == 1) {
-            this.builder.addDate(column);
+
+        this.builder.addProducts(batch);
+    }
+
+    private void addProduct(final ProductBatch batch, final CharSequence chars, final int found, final int[] starts,
+            final int[] ends) {
+        final int quantityColumn = this.plan.getProductQuantityColumn();
+        final long quantity = quantityColumn < 0 || quantityColumn >= found ? Quantities.NOT_NUMERIC
+                : Quantities.parse(chars, starts[quantityColumn], ends[quantityColumn]);
+        final String quantityText = quantity == Quantities.NOT_NUMERIC
+                || Quantities.hasLeadingZero(chars, starts[quantityColumn], ends[quantityColumn])
+                        ? this.field(chars, found, quantityColumn, starts, ends)
+                        : null;
+
+        this.addProduct(batch, //
+                this.field(chars, found, this.plan.getProductIdColumn(), starts, ends), //
+                quantityText, //
+                quantity, //
+                this.field(chars, found, this.plan.getProductDescriptionColumn(), starts, ends));
+    }
+
+    private void addProduct(final ProductBatch batch, final String id, final String quantityText,
+            final long quantity, final String description) {
+        if (quantity != Quantities.NOT_NUMERIC) {
+            batch.add(id, quantityText, quantity, description);
+        } else if (id != null || quantityText != null || description != null) {
+            batch.add(id, quantityText, description);
+        } else {
+            return;
         }
-        if (i == 2) {
-            this.builder.addDeliveryAddress(column);
+
+        if (batch == this.products && batch.size() == PRODUCT_BATCH_SIZE) {
+            this.finishOrder();
         }
     }
 
-    private void parseRequestorColumn(final int i, final String column) {
-        if (i == 0) {
-            this.builder.addRequestorRfc(column);
+    private CharSequence slice(final CharSequence chars, final int found, final int column) {
+        if (this.stringPool != null) {
+            return this.field(chars, found, column, this.columnStarts, this.columnEnds);
         }
-        if (i == 1) {
-            this.builder.addRequestorName(column);
+
+        if (column < 0 || column >= found || this.columnStarts[column] == this.columnEnds[column]) {
+            return null;
         }
+
+        return this.slice.wrap(chars, this.columnStarts[column], this.columnEnds[column]);
     }
 
-    private void parseProviderColumn(final int i, final String column) {
-        if (i == 0) {
-            this.builder.addProviderRfc(column);
+    private String field(final CharSequence chars, final int found, final int column, final int[] starts,
+            final int[] ends) {
+        if (column < 0 || column >= found || starts[column] == ends[column]) {
+            return null;
         }
-        if (i == 1) {
-            this.builder.addProviderName(column);
+
+        return this.intern(chars.subSequence(starts[column], ends[column]).toString());
+    }
+
+    private String field(final ByteBuffer bytes, final int found, final int column) {
+        if (column < 0 || column >= found || this.columnStarts[column] == this.columnEnds[column]) {
+            return null;
         }
+
+        return this.intern(this.decodeUtf8(bytes, this.columnStarts[column], this.columnEnds[column]));
     }
 
-    private void parseProductColumn(final int i, final String column) {
-        if (i == 0) {
-            this.builder.addProduct(column);
+    private int splitColumns(final ByteBuffer bytes, final int start, final int end, final int columnCount) {
+        int i = 0;
+        int columnStart = start;
+
+        for (int k = start; k <= end && i < columnCount; k++) {
+            if (k == end || bytes.get(k) == '|') {
+                this.columnStarts[i] = columnStart;
+                this.columnEnds[i] = k;
+
+                i++;
+                columnStart = k + 1;
+            }
         }
-        if (i == 1) {
-            this.builder.setProductQuantity(column);
+
+        return i;
+    }
+
+    private String intern(final String value) {
+        return this.stringPool == null ? value : this.stringPool.intern(value);
+    }
+
+    private String decodeUtf8(final ByteBuffer bytes, final int start, final int end) {
+        final int length = end - start;
+        if (this.decodeBuffer.length < length) {
+            this.decodeBuffer = new byte[Math.max(length, this.decodeBuffer.length * 2)];
         }
-        if (i == 2) {
-            this.builder.setProductDescription(column);
+
+        for (int k = 0; k < length; k++) {
+            this.decodeBuffer[k] = bytes.get(start + k);
         }
+
+        return new String(this.decodeBuffer, 0, length, StandardCharsets.UTF_8);
     }
 }
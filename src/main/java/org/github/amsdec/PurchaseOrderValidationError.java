@@ -0,0 +1,24 @@
+package org.github.amsdec;
+
+import lombok.Getter;
+
+@Getter
+public class PurchaseOrderValidationError {
+
+    private final int line;
+
+    private final int column;
+
+    private final String message;
+
+    public PurchaseOrderValidationError(final int line, final int column, final String message) {
+        this.line = line;
+        this.column = column;
+        this.message = message;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s:%s: %s", this.line, this.column, this.message);
+    }
+}
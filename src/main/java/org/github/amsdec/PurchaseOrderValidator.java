@@ -0,0 +1,172 @@
+package org.github.amsdec;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class PurchaseOrderValidator {
+
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private static final int PRODUCTS = 3;
+
+    private static final String[][] REQUIRED_FIELDS = { //
+            { "purchase order number", "date", "delivery address" }, //
+            { "requestor RFC", "requestor name" }, //
+            { "provider RFC", "provider name" }, //
+            { "product ID" } //
+    };
+
+    private static final String[] MISSING_LINES = { "header line", "requestor line", "provider line" };
+
+    private static final int QUANTITY_COLUMN = 1;
+
+    public List<PurchaseOrderValidationError> validate(final CharSequence chars) {
+        final Validation validation = new Validation(false);
+
+        if (chars != null) {
+            validation.validateLines(chars);
+        }
+        validation.finish();
+
+        return validation.getErrors();
+    }
+
+    public List<PurchaseOrderValidationError> validateFrom(final Reader reader) throws IOException {
+        final Validation validation = new Validation(false);
+
+        if (reader != null) {
+            final LineBuffer lines = new LineBuffer(validation::validateLine);
+            final char[] buffer = new char[READ_BUFFER_SIZE];
+
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                lines.append(buffer, 0, read);
+            }
+
+            lines.finish();
+        }
+        validation.finish();
+
+        return validation.getErrors();
+    }
+
+    public boolean isValid(final CharSequence chars) {
+        final Validation validation = new Validation(true);
+
+        if (chars != null) {
+            validation.validateLines(chars);
+        }
+        validation.finish();
+
+        return validation.errorCount == 0;
+    }
+
+    private static class Validation {
+
+        private final boolean stopOnFirstError;
+
+        private List<PurchaseOrderValidationError> errors;
+
+        private int errorCount;
+
+        private int lines;
+
+        Validation(final boolean stopOnFirstError) {
+            this.stopOnFirstError = stopOnFirstError;
+        }
+
+        void validateLines(final CharSequence chars) {
+            int lineStart = 0;
+            for (int i = 0; i < chars.length() && !this.isStopped(); i++) {
+                if (chars.charAt(i) == '\n') {
+                    this.validateLine(chars, lineStart, i);
+                    lineStart = i + 1;
+                }
+            }
+
+            if (lineStart < chars.length()) {
+                this.validateLine(chars, lineStart, chars.length());
+            }
+        }
+
+        void validateLine(final CharSequence chars, final int start, final int end) {
+            if (this.isStopped()) {
+                return;
+            }
+
+            final int lineState = Math.min(this.lines++, PRODUCTS);
+            if (lineState == PRODUCTS && start == end) {
+                return;
+            }
+
+            final int requiredColumns = REQUIRED_FIELDS[lineState].length;
+            int column = 0;
+            int columnStart = start;
+
+            for (int k = start; k <= end; k++) {
+                if (k == end || chars.charAt(k) == '|') {
+                    if (column < requiredColumns && k == columnStart) {
+                        this.addError(column, REQUIRED_FIELDS[lineState][column] + " is missing");
+                    }
+                    if (lineState == PRODUCTS && column == QUANTITY_COLUMN
+                            && !this.isNumeric(chars, columnStart, k)) {
+                        this.addError(column, "quantity is not numeric");
+                    }
+
+                    column++;
+                    columnStart = k + 1;
+
+                    if (column > requiredColumns && column > QUANTITY_COLUMN + 1) {
+                        return;
+                    }
+                }
+            }
+
+            for (; column < requiredColumns; column++) {
+                this.addError(column, REQUIRED_FIELDS[lineState][column] + " is missing");
+            }
+        }
+
+        void finish() {
+            while (this.lines < PRODUCTS && !this.isStopped()) {
+                this.lines++;
+                this.addError(0, MISSING_LINES[this.lines - 1] + " is missing");
+            }
+        }
+
+        List<PurchaseOrderValidationError> getErrors() {
+            return this.errors == null ? Collections.emptyList() : this.errors;
+        }
+
+        private boolean isNumeric(final CharSequence chars, final int start, final int end) {
+            for (int k = start; k < end; k++) {
+                final char c = chars.charAt(k);
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private boolean isStopped() {
+            return this.stopOnFirstError && this.errorCount > 0;
+        }
+
+        private void addError(final int column, final String message) {
+            this.errorCount++;
+
+            if (this.stopOnFirstError) {
+                return;
+            }
+            if (this.errors == null) {
+                this.errors = new ArrayList<>();
+            }
+
+            this.errors.add(new PurchaseOrderValidationError(this.lines, column + 1, message));
+        }
+    }
+}
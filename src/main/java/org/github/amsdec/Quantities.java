@@ -0,0 +1,59 @@
+package org.github.amsdec;
+
+import java.nio.ByteBuffer;
+
+public final class Quantities {
+
+    public static final long NOT_NUMERIC = -1;
+
+    private static final int MAX_DIGITS = 18;
+
+    private Quantities() {
+    }
+
+    public static long parse(final CharSequence chars) {
+        return parse(chars, 0, chars.length());
+    }
+
+    public static long parse(final CharSequence chars, final int start, final int end) {
+        if (start == end || end - start > MAX_DIGITS) {
+            return NOT_NUMERIC;
+        }
+
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            final int digit = chars.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return NOT_NUMERIC;
+            }
+            value = value * 10 + digit;
+        }
+
+        return value;
+    }
+
+    public static boolean hasLeadingZero(final CharSequence chars, final int start, final int end) {
+        return end - start > 1 && chars.charAt(start) == '0';
+    }
+
+    public static boolean hasLeadingZero(final ByteBuffer bytes, final int start, final int end) {
+        return end - start > 1 && bytes.get(start) == '0';
+    }
+
+    public static long parse(final ByteBuffer bytes, final int start, final int end) {
+        if (start == end || end - start > MAX_DIGITS) {
+            return NOT_NUMERIC;
+        }
+
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            final int digit = bytes.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return NOT_NUMERIC;
+            }
+            value = value * 10 + digit;
+        }
+
+        return value;
+    }
+}
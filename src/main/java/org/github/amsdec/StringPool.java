@@ -0,0 +1,70 @@
+package org.github.amsdec;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class StringPool {
+
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments;
+
+    public StringPool(final int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException(String.format("Invalid pool size %s", maxSize));
+        }
+
+        this.segments = new Segment[Integer.highestOneBit(Math.min(maxSize, SEGMENTS))];
+
+        final int segmentSize = maxSize / this.segments.length;
+        final int remainder = maxSize % this.segments.length;
+        for (int i = 0; i < this.segments.length; i++) {
+            this.segments[i] = new Segment(i < remainder ? segmentSize + 1 : segmentSize);
+        }
+    }
+
+    public String intern(final String value) {
+        if (value == null) {
+            return null;
+        }
+
+        final int hash = value.hashCode();
+        return this.segments[(hash ^ (hash >>> 16)) & (this.segments.length - 1)].intern(value);
+    }
+
+    public int size() {
+        int size = 0;
+        for (final Segment segment : this.segments) {
+            size += segment.size();
+        }
+
+        return size;
+    }
+
+    private static class Segment {
+
+        private final Map<String, String> values;
+
+        Segment(final int maxSize) {
+            this.values = new LinkedHashMap<String, String>(16, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, String> eldest) {
+                    return this.size() > maxSize;
+                }
+            };
+        }
+
+        synchronized String intern(final String value) {
+            final String pooled = this.values.putIfAbsent(value, value);
+
+            return pooled == null ? value : pooled;
+        }
+
+        synchronized int size() {
+            return this.values.size();
+        }
+    }
+}
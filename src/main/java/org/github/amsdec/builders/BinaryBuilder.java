@@ -0,0 +1,217 @@
+package org.github.amsdec.builders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.github.amsdec.PurchaseOrderBinaryFormat;
+import org.github.amsdec.Quantities;
+
+public class BinaryBuilder implements ReusableBuilder {
+
+    private final Map<String, Integer> descriptions = new HashMap<>();
+
+    private byte[] payload = new byte[256];
+
+    private int size;
+
+    @Override
+    public void addPurchaseOrderNumber(final String number) {
+        this.writeField(PurchaseOrderBinaryFormat.PURCHASE_ORDER_NUMBER, number);
+    }
+
+    @Override
+    public void addPurchaseOrderNumber(final CharSequence number) {
+        this.writeField(PurchaseOrderBinaryFormat.PURCHASE_ORDER_NUMBER, number);
+    }
+
+    @Override
+    public void addDate(final String date) {
+        this.writeField(PurchaseOrderBinaryFormat.DATE, date);
+    }
+
+    @Override
+    public void addDate(final CharSequence date) {
+        this.writeField(PurchaseOrderBinaryFormat.DATE, date);
+    }
+
+    @Override
+    public void addDeliveryAddress(final String address) {
+        this.writeField(PurchaseOrderBinaryFormat.DELIVERY_ADDRESS, address);
+    }
+
+    @Override
+    public void addDeliveryAddress(final CharSequence address) {
+        this.writeField(PurchaseOrderBinaryFormat.DELIVERY_ADDRESS, address);
+    }
+
+    @Override
+    public void addRequestorRfc(final String rfc) {
+        this.writeField(PurchaseOrderBinaryFormat.REQUESTOR_RFC, rfc);
+    }
+
+    @Override
+    public void addRequestorRfc(final CharSequence rfc) {
+        this.writeField(PurchaseOrderBinaryFormat.REQUESTOR_RFC, rfc);
+    }
+
+    @Override
+    public void addRequestorName(final String requestor) {
+        this.writeField(PurchaseOrderBinaryFormat.REQUESTOR_NAME, requestor);
+    }
+
+    @Override
+    public void addRequestorName(final CharSequence requestor) {
+        this.writeField(PurchaseOrderBinaryFormat.REQUESTOR_NAME, requestor);
+    }
+
+    @Override
+    public void addProviderRfc(final String rfc) {
+        this.writeField(PurchaseOrderBinaryFormat.PROVIDER_RFC, rfc);
+    }
+
+    @Override
+    public void addProviderRfc(final CharSequence rfc) {
+        this.writeField(PurchaseOrderBinaryFormat.PROVIDER_RFC, rfc);
+    }
+
+    @Override
+    public void addProviderName(final String provider) {
+        this.writeField(PurchaseOrderBinaryFormat.PROVIDER_NAME, provider);
+    }
+
+    @Override
+    public void addProviderName(final CharSequence provider) {
+        this.writeField(PurchaseOrderBinaryFormat.PROVIDER_NAME, provider);
+    }
+
+    @Override
+    public void addProduct(final String productId) {
+        this.writeField(PurchaseOrderBinaryFormat.PRODUCT, productId);
+    }
+
+    @Override
+    public void addProduct(final CharSequence productId) {
+        this.writeField(PurchaseOrderBinaryFormat.PRODUCT, productId);
+    }
+
+    @Override
+    public void setProductQuantity(final String quantity) {
+        this.setProductQuantity((CharSequence) quantity);
+    }
+
+    @Override
+    public void setProductQuantity(final CharSequence quantity) {
+        final long value = Quantities.parse(quantity);
+        if (value != Quantities.NOT_NUMERIC && !Quantities.hasLeadingZero(quantity, 0, quantity.length())) {
+            this.setProductQuantity(value);
+        } else {
+            this.writeField(PurchaseOrderBinaryFormat.PRODUCT_QUANTITY, quantity);
+        }
+    }
+
+    @Override
+    public void setProductQuantity(final long quantity) {
+        if (quantity < 0) {
+            this.writeField(PurchaseOrderBinaryFormat.PRODUCT_QUANTITY, Long.toString(quantity));
+            return;
+        }
+
+        this.writeByte(PurchaseOrderBinaryFormat.PRODUCT_QUANTITY_VALUE);
+        long remaining = quantity;
+        while ((remaining & ~0x7FL) != 0) {
+            this.writeByte((int) (remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        this.writeByte((int) remaining);
+    }
+
+    @Override
+    public void setProductDescription(final String description) {
+        this.writeByte(PurchaseOrderBinaryFormat.PRODUCT_DESCRIPTION);
+
+        final Integer entry = this.descriptions.get(description);
+        if (entry != null) {
+            this.writeVarint(entry + 1);
+            return;
+        }
+
+        this.descriptions.put(description, this.descriptions.size());
+        this.writeVarint(PurchaseOrderBinaryFormat.NEW_DICTIONARY_ENTRY);
+        this.writeString(description);
+    }
+
+    @Override
+    public void reset() {
+        this.descriptions.clear();
+        this.size = 0;
+    }
+
+    public void writeTo(final OutputStream out, final OutputCodec codec) throws IOException {
+        try (OutputStream encoded = codec.encode(out)) {
+            this.writeTo(encoded);
+        }
+    }
+
+    public void writeTo(final OutputStream out) throws IOException {
+        out.write(PurchaseOrderBinaryFormat.MAGIC);
+
+        int remaining = this.size;
+        while ((remaining & ~0x7F) != 0) {
+            out.write((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.write(remaining);
+
+        out.write(this.payload, 0, this.size);
+    }
+
+    public byte[] toByteArray() {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(this.size + 16);
+        try {
+            this.writeTo(out);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return out.toByteArray();
+    }
+
+    private void writeField(final int field, final CharSequence value) {
+        this.writeByte(field);
+        this.writeString(value);
+    }
+
+    private void writeString(final CharSequence value) {
+        final int encodedLength = Utf8.encodedLength(value);
+
+        this.writeVarint(encodedLength);
+        this.ensureCapacity(encodedLength);
+        this.size = Utf8.encode(value, this.payload, this.size);
+    }
+
+    private void writeVarint(final int value) {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            this.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+
+        this.writeByte(remaining);
+    }
+
+    private void writeByte(final int value) {
+        this.ensureCapacity(1);
+        this.payload[this.size++] = (byte) value;
+    }
+
+    private void ensureCapacity(final int length) {
+        if (this.size + length > this.payload.length) {
+            this.payload = Arrays.copyOf(this.payload, Math.max(this.payload.length * 2, this.size + length));
+        }
+    }
+}
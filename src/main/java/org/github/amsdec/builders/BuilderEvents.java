@@ -0,0 +1,64 @@
+package org.github.amsdec.builders;
+
+import org.github.amsdec.PurchaseOrderBuilder;
+
+final class BuilderEvents {
+
+    static final byte PURCHASE_ORDER_NUMBER = 0;
+
+    static final byte DATE = 1;
+
+    static final byte DELIVERY_ADDRESS = 2;
+
+    static final byte REQUESTOR_RFC = 3;
+
+    static final byte REQUESTOR_NAME = 4;
+
+    static final byte PROVIDER_RFC = 5;
+
+    static final byte PROVIDER_NAME = 6;
+
+    static final byte PRODUCT = 7;
+
+    static final byte PRODUCT_QUANTITY = 8;
+
+    static final byte PRODUCT_DESCRIPTION = 9;
+
+    private BuilderEvents() {
+    }
+
+    static void dispatch(final byte event, final String value, final PurchaseOrderBuilder builder) {
+        switch (event) {
+        case PURCHASE_ORDER_NUMBER:
+            builder.addPurchaseOrderNumber(value);
+            break;
+        case DATE:
+            builder.addDate(value);
+            break;
+        case DELIVERY_ADDRESS:
+            builder.addDeliveryAddress(value);
+            break;
+        case REQUESTOR_RFC:
+            builder.addRequestorRfc(value);
+            break;
+        case REQUESTOR_NAME:
+            builder.addRequestorName(value);
+            break;
+        case PROVIDER_RFC:
+            builder.addProviderRfc(value);
+            break;
+        case PROVIDER_NAME:
+            builder.addProviderName(value);
+            break;
+        case PRODUCT:
+            builder.addProduct(value);
+            break;
+        case PRODUCT_QUANTITY:
+            builder.setProductQuantity(value);
+            break;
+        default:
+            builder.setProductDescription(value);
+            break;
+        }
+    }
+}
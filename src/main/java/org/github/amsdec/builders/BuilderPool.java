@@ -0,0 +1,78 @@
+package org.github.amsdec.builders;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BuilderPool<B extends ReusableBuilder> {
+
+    private final Callable<B> builderFactory;
+
+    private final int maxIdle;
+
+    private final ConcurrentLinkedQueue<B> idle = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    public BuilderPool(final Callable<B> builderFactory) {
+        this(builderFactory, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    public BuilderPool(final Callable<B> builderFactory, final int maxIdle) {
+        if (maxIdle < 1) {
+            throw new IllegalArgumentException(String.format("Invalid pool size %s", maxIdle));
+        }
+
+        this.builderFactory = builderFactory;
+        this.maxIdle = maxIdle;
+    }
+
+    public B acquire() {
+        final B builder = this.idle.poll();
+        if (builder != null) {
+            this.idleCount.decrementAndGet();
+            return builder;
+        }
+
+        try {
+            return this.builderFactory.call();
+        } catch (final RuntimeException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw new IllegalStateException("Builder could not be created", e);
+        }
+    }
+
+    public void release(final B builder) {
+        if (this.idleCount.incrementAndGet() > this.maxIdle) {
+            this.idleCount.decrementAndGet();
+            this.discard(builder);
+            return;
+        }
+
+        try {
+            builder.reset();
+        } catch (final RuntimeException e) {
+            this.idleCount.decrementAndGet();
+            throw e;
+        }
+
+        this.idle.offer(builder);
+    }
+
+    private void discard(final B builder) {
+        if (builder instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) builder).close();
+            } catch (final RuntimeException e) {
+                throw e;
+            } catch (final Exception e) {
+                throw new IllegalStateException("Builder could not be closed", e);
+            }
+        }
+    }
+
+    public int idleCount() {
+        return this.idleCount.get();
+    }
+}
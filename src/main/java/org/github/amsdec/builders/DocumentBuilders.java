@@ -0,0 +1,37 @@
+package org.github.amsdec.builders;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.w3c.dom.Document;
+
+final class DocumentBuilders {
+
+    private static final DocumentBuilderFactory FACTORY = DocumentBuilderFactory.newInstance();
+
+    private static final ThreadLocal<DocumentBuilder> BUILDERS = new ThreadLocal<>();
+
+    private DocumentBuilders() {
+    }
+
+    static Document newDocument() throws ParserConfigurationException {
+        DocumentBuilder builder = BUILDERS.get();
+        if (builder == null) {
+            synchronized (FACTORY) {
+                builder = FACTORY.newDocumentBuilder();
+            }
+            BUILDERS.set(builder);
+        }
+
+        return builder.newDocument();
+    }
+
+    static Document newDocumentForReset() {
+        try {
+            return newDocument();
+        } catch (final ParserConfigurationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
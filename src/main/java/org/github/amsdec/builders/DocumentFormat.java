@@ -0,0 +1,40 @@
+package org.github.amsdec.builders;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import lombok.Getter;
+
+public final class DocumentFormat {
+
+    public static final DocumentFormat COMPACT = new DocumentFormat(false, StandardCharsets.UTF_8, OutputCodec.NONE);
+
+    public static final DocumentFormat PRETTY = new DocumentFormat(true, StandardCharsets.UTF_8, OutputCodec.NONE);
+
+    @Getter
+    private final boolean indent;
+
+    @Getter
+    private final Charset encoding;
+
+    @Getter
+    private final OutputCodec codec;
+
+    private DocumentFormat(final boolean indent, final Charset encoding, final OutputCodec codec) {
+        this.indent = indent;
+        this.encoding = encoding;
+        this.codec = codec;
+    }
+
+    public DocumentFormat withIndent(final boolean indent) {
+        return new DocumentFormat(indent, this.encoding, this.codec);
+    }
+
+    public DocumentFormat withEncoding(final Charset encoding) {
+        return new DocumentFormat(this.indent, encoding, this.codec);
+    }
+
+    public DocumentFormat withCodec(final OutputCodec codec) {
+        return new DocumentFormat(this.indent, this.encoding, codec);
+    }
+}
@@ -0,0 +1,75 @@
+package org.github.amsdec.builders;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.w3c.dom.Document;
+
+final class DocumentWriter {
+
+    static final String XML = "xml";
+
+    static final String HTML = "html";
+
+    private static final String INDENT_AMOUNT = "{http://xml.apache.org/xslt}indent-amount";
+
+    private static final TransformerFactory FACTORY = TransformerFactory.newInstance();
+
+    private static final ThreadLocal<Transformer> TRANSFORMERS = new ThreadLocal<>();
+
+    private DocumentWriter() {
+    }
+
+    static void write(final Document doc, final String method, final DocumentFormat format, final OutputStream out)
+            throws IOException {
+        final Transformer transformer = transformer();
+        transformer.setOutputProperty(OutputKeys.METHOD, method);
+        transformer.setOutputProperty(OutputKeys.ENCODING, format.getEncoding().name());
+        if (format.isIndent()) {
+            transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+            transformer.setOutputProperty(INDENT_AMOUNT, "2");
+        } else {
+            transformer.setOutputProperty(OutputKeys.INDENT, "no");
+        }
+
+        try (OutputStream encoded = format.getCodec().encode(out)) {
+            transformer.transform(new DOMSource(doc), new StreamResult(encoded));
+        } catch (final TransformerException e) {
+            throw e.getCause() instanceof IOException ? (IOException) e.getCause()
+                    : new IOException("Document could not be written", e);
+        } finally {
+            transformer.reset();
+        }
+    }
+
+    static void write(final Document doc, final String method, final DocumentFormat format,
+            final WritableByteChannel channel) throws IOException {
+        write(doc, method, format, Channels.newOutputStream(channel));
+    }
+
+    private static Transformer transformer() throws IOException {
+        Transformer transformer = TRANSFORMERS.get();
+        if (transformer == null) {
+            try {
+                synchronized (FACTORY) {
+                    transformer = FACTORY.newTransformer();
+                }
+            } catch (final TransformerConfigurationException e) {
+                throw new IOException("Document writer could not be created", e);
+            }
+            TRANSFORMERS.set(transformer);
+        }
+
+        return transformer;
+    }
+}
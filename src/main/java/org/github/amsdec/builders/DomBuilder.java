@@ -1,22 +1,24 @@
 package org.github.amsdec.builders;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+
 import javax.xml.parsers.ParserConfigurationException;
 
-import org.github.amsdec.PurchaseOrderBuilder;
+import org.github.amsdec.ProductBatch;
 import org.w3c.dom.Attr;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
 import lombok.Getter;
 
-public class DomBuilder implements PurchaseOrderBuilder {
+public class DomBuilder implements ReusableBuilder {
 
     @Getter
-    private final Document doc;
+    private Document doc;
 
-    private final Element purchaseOrder;
+    private Element purchaseOrder;
 
     private Element requestor;
 
@@ -25,12 +27,28 @@ public class DomBuilder implements PurchaseOrderBuilder {
     private Element products;
 
     public DomBuilder() throws ParserConfigurationException {
-        final DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-        final DocumentBuilder db = dbf.newDocumentBuilder();
-        this.doc = db.newDocument();
+        this.startDocument(DocumentBuilders.newDocument());
+    }
 
-        this.purchaseOrder = this.doc.createElement("PurchaseOrder");
-        this.doc.appendChild(this.purchaseOrder);
+    public void writeTo(final OutputStream out) throws IOException {
+        this.writeTo(out, DocumentFormat.COMPACT);
+    }
+
+    public void writeTo(final OutputStream out, final DocumentFormat format) throws IOException {
+        DocumentWriter.write(this.doc, DocumentWriter.XML, format, out);
+    }
+
+    public void writeTo(final WritableByteChannel channel) throws IOException {
+        this.writeTo(channel, DocumentFormat.COMPACT);
+    }
+
+    public void writeTo(final WritableByteChannel channel, final DocumentFormat format) throws IOException {
+        DocumentWriter.write(this.doc, DocumentWriter.XML, format, channel);
+    }
+
+    @Override
+    public void reset() {
+        this.startDocument(DocumentBuilders.newDocumentForReset());
     }
 
     @Override
@@ -74,17 +92,29 @@ public class DomBuilder implements PurchaseOrderBuilder {
 
     @Override
     public void addProduct(final String productId) {
-        if (this.products == null) {
-            this.products = this.doc.createElement("Products");
-            this.purchaseOrder.appendChild(this.products);
-        }
-
-        final Element product = this.doc.createElement("Product");
-        this.products.appendChild(product);
+        this.appendProduct(productId, "0", productId);
+    }
 
-        this.addAttributeToElement(product, "id", productId);
-        this.addAttributeToElement(product, "quantity", "0");
-        this.addAttributeToElement(product, "description", productId);
+    @Override
+    public void addProducts(final ProductBatch products) {
+        for (int i = 0; i < products.size(); i++) {
+            final String productId = products.getId(i);
+            final String quantity = products.getQuantity(i);
+            final String description = products.getDescription(i);
+
+            if (productId == null) {
+                if (quantity != null) {
+                    this.setProductQuantity(quantity);
+                }
+                if (description != null) {
+                    this.setProductDescription(description);
+                }
+                continue;
+            }
+
+            this.appendProduct(productId, quantity == null ? "0" : quantity,
+                    description == null ? productId : description);
+        }
     }
 
     @Override
@@ -101,6 +131,30 @@ public class DomBuilder implements PurchaseOrderBuilder {
         this.addAttributeToElement(product, "description", description);
     }
 
+    private void startDocument(final Document document) {
+        this.doc = document;
+        this.requestor = null;
+        this.provider = null;
+        this.products = null;
+
+        this.purchaseOrder = this.doc.createElement("PurchaseOrder");
+        this.doc.appendChild(this.purchaseOrder);
+    }
+
+    private void appendProduct(final String productId, final String quantity, final String description) {
+        if (this.products == null) {
+            this.products = this.doc.createElement("Products");
+            this.purchaseOrder.appendChild(this.products);
+        }
+
+        final Element product = this.doc.createElement("Product");
+        this.products.appendChild(product);
+
+        this.addAttributeToElement(product, "id", productId);
+        this.addAttributeToElement(product, "quantity", quantity);
+        this.addAttributeToElement(product, "description", description);
+    }
+
     private void addAttributeToElement(final Element element, final String attributeName, final String value) {
         final Attr attribute = this.doc.createAttribute(attributeName);
         attribute.setValue(value);
@@ -0,0 +1,104 @@
+package org.github.amsdec.builders;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.github.amsdec.PurchaseOrderBuilder;
+
+final class EventRing {
+
+    static final byte END = -1;
+
+    private static final int SPINS_BEFORE_PARKING = 64;
+
+    private static final long PARK_NANOS = 10_000L;
+
+    private final byte[] events;
+
+    private final String[] values;
+
+    private final int mask;
+
+    private final AtomicLong head = new AtomicLong();
+
+    private final AtomicLong tail = new AtomicLong();
+
+    private long cachedHead;
+
+    private long cachedTail;
+
+    private volatile boolean abandoned;
+
+    EventRing(final int capacity) {
+        final int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+
+        this.events = new byte[size];
+        this.values = new String[size];
+        this.mask = size - 1;
+    }
+
+    void put(final byte event, final String value) {
+        final long next = this.tail.get();
+
+        int spins = 0;
+        while (next - this.cachedHead >= this.events.length) {
+            if (this.abandoned) {
+                return;
+            }
+            this.cachedHead = this.head.get();
+            spins = this.backOff(spins);
+        }
+
+        final int index = (int) next & this.mask;
+        this.events[index] = event;
+        this.values[index] = value;
+        this.tail.lazySet(next + 1);
+    }
+
+    Throwable consumeUntilEnd(final PurchaseOrderBuilder builder) {
+        Throwable failure = null;
+        long next = this.head.get();
+
+        while (true) {
+            int spins = 0;
+            while (next >= this.cachedTail) {
+                if (Thread.interrupted()) {
+                    this.abandoned = true;
+                    Thread.currentThread().interrupt();
+                    return new InterruptedException("Consumer interrupted before end of events");
+                }
+                this.cachedTail = this.tail.get();
+                spins = this.backOff(spins);
+            }
+
+            final int index = (int) next & this.mask;
+            final byte event = this.events[index];
+            final String value = this.values[index];
+            this.values[index] = null;
+            this.head.lazySet(++next);
+
+            if (event == END) {
+                return failure;
+            }
+            if (failure != null) {
+                continue;
+            }
+
+            try {
+                BuilderEvents.dispatch(event, value, builder);
+            } catch (final RuntimeException | Error e) {
+                failure = e;
+            }
+        }
+    }
+
+    private int backOff(final int spins) {
+        if (spins < SPINS_BEFORE_PARKING) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+
+        return spins + 1;
+    }
+}
@@ -1,47 +1,116 @@
 package org.github.amsdec.builders;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.Supplier;
+
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
-import org.github.amsdec.PurchaseOrderBuilder;
+import org.github.amsdec.ProductBatch;
+import org.github.amsdec.Quantities;
 
 import lombok.Getter;
 
-public abstract class ExcelBuilder implements PurchaseOrderBuilder {
+public abstract class ExcelBuilder implements ReusableBuilder, Closeable {
+
+    private final Supplier<? extends Workbook> workbooks;
+
+    private final Labels labels;
 
     @Getter
-    private final Workbook wb;
+    private Workbook wb;
+
+    private boolean detached;
 
-    private final Sheet sheet;
+    private Sheet sheet;
 
     private boolean productsAdded;
 
     protected ExcelBuilder(final Workbook wb) {
+        this(wb, null, Labels.DEFAULT);
+    }
+
+    protected ExcelBuilder(final Supplier<? extends Workbook> workbooks) {
+        this(workbooks, Labels.DEFAULT);
+    }
+
+    protected ExcelBuilder(final Supplier<? extends Workbook> workbooks, final Labels labels) {
+        this(workbooks.get(), workbooks, labels);
+    }
+
+    private ExcelBuilder(final Workbook wb, final Supplier<? extends Workbook> workbooks, final Labels labels) {
+        this.workbooks = workbooks;
+        this.labels = labels;
         this.wb = wb;
         this.sheet = this.wb.createSheet();
     }
 
+    /** Hands the workbook over to the caller; reset() and close() no longer touch it. */
+    public Workbook detachWorkbook() {
+        this.detached = true;
+        return this.wb;
+    }
+
+    protected boolean isDetached() {
+        return this.detached;
+    }
+
+    protected boolean keepsSharedStrings() {
+        return true;
+    }
+
+    @Override
+    public void reset() {
+        if (this.detached || this.workbooks != null && this.keepsSharedStrings()) {
+            this.wb = this.newWorkbook();
+            this.detached = false;
+        } else {
+            while (this.wb.getNumberOfSheets() > 0) {
+                this.wb.removeSheetAt(0);
+            }
+        }
+
+        this.sheet = this.wb.createSheet();
+        this.productsAdded = false;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    public void writeTo(final OutputStream out) throws IOException {
+        this.writeTo(out, OutputCodec.NONE);
+    }
+
+    public void writeTo(final OutputStream out, final OutputCodec codec) throws IOException {
+        try (OutputStream encoded = codec.encode(out)) {
+            this.wb.write(encoded);
+        }
+    }
+
     @Override
     public void addPurchaseOrderNumber(final String number) {
-        this.addRowWithLabelAndValue("Número de orden de compra", number);
+        this.addRowWithLabelAndValue(this.labels.getOrderNumber(), number);
     }
 
     @Override
     public void addDate(final String date) {
-        this.addRowWithLabelAndValue("Fecha", date);
+        this.addRowWithLabelAndValue(this.labels.getDate(), date);
     }
 
     @Override
     public void addDeliveryAddress(final String address) {
-        this.addRowWithLabelAndValue("Entregar en", address);
+        this.addRowWithLabelAndValue(this.labels.getDeliveryAddress(), address);
 
     }
 
     @Override
     public void addRequestorRfc(final String rfc) {
         this.sheet.createRow(this.sheet.getLastRowNum() + 1);
-        this.addTabledSection("Solicitante", "RFC", "Nombre");
+        this.addTabledSection(this.labels.getRequestor(), this.labels.getRfc(), this.labels.getName());
 
         this.sheet.createRow(this.sheet.getLastRowNum() + 1);
         this.addTableCellOnLastRow(rfc);
@@ -55,7 +124,7 @@ public abstract class ExcelBuilder implements PurchaseOrderBuilder {
     @Override
     public void addProviderRfc(final String rfc) {
         this.sheet.createRow(this.sheet.getLastRowNum() + 1);
-        this.addTabledSection("Proveedor", "RFC", "Nombre");
+        this.addTabledSection(this.labels.getProvider(), this.labels.getRfc(), this.labels.getName());
 
         this.sheet.createRow(this.sheet.getLastRowNum() + 1);
         this.addTableCellOnLastRow(rfc);
@@ -68,24 +137,47 @@ public abstract class ExcelBuilder implements PurchaseOrderBuilder {
 
     @Override
     public void addProduct(final String productId) {
-        if (!this.productsAdded) {
-            this.sheet.createRow(this.sheet.getLastRowNum() + 1);
-            this.addTabledSection("Productos", "ID", "Descripción", "Cantidad");
-            this.productsAdded = true;
-        }
+        this.addProductRow(productId, productId, 0);
+    }
 
-        this.sheet.createRow(this.sheet.getLastRowNum() + 1);
-        this.addTableCellOnLastRow(productId);
-        this.addTableCellOnLastRow(productId);
-        this.addTableCellOnLastRow("0");
+    @Override
+    public void addProducts(final ProductBatch products) {
+        for (int i = 0; i < products.size(); i++) {
+            final String productId = products.getId(i);
+            final String description = products.getDescription(i);
+
+            if (productId == null) {
+                if (products.isQuantityNumeric(i)) {
+                    this.setProductQuantity(products.getQuantityValue(i));
+                } else if (products.hasQuantity(i)) {
+                    this.setProductQuantity(products.getQuantity(i));
+                }
+                if (description != null) {
+                    this.setProductDescription(description);
+                }
+                continue;
+            }
+
+            final Row row = this.addProductRow(productId, description == null ? productId : description,
+                    products.isQuantityNumeric(i) ? products.getQuantityValue(i) : 0);
+            if (!products.isQuantityNumeric(i) && products.hasQuantity(i)) {
+                this.setQuantityCell(row.getCell(2), products.getQuantity(i));
+            }
+        }
     }
 
     @Override
     public void setProductQuantity(final String quantity) {
         final Row row = this.sheet.getRow(this.sheet.getLastRowNum());
 
-        final Cell cell = row.getCell(2);
-        cell.setCellValue(quantity);
+        this.setQuantityCell(row.getCell(2), quantity);
+    }
+
+    @Override
+    public void setProductQuantity(final long quantity) {
+        final Row row = this.sheet.getRow(this.sheet.getLastRowNum());
+
+        row.getCell(2).setCellValue(quantity);
     }
 
     @Override
@@ -96,6 +188,39 @@ public abstract class ExcelBuilder implements PurchaseOrderBuilder {
         cell.setCellValue(description);
     }
 
+    private Workbook newWorkbook() {
+        if (this.workbooks == null) {
+            throw new IllegalStateException("Workbook was detached from a builder without a workbook supplier");
+        }
+
+        return this.workbooks.get();
+    }
+
+    private Row addProductRow(final String productId, final String description, final long quantity) {
+        if (!this.productsAdded) {
+            this.sheet.createRow(this.sheet.getLastRowNum() + 1);
+            this.addTabledSection(this.labels.getProducts(), this.labels.getProductId(),
+                    this.labels.getProductDescription(), this.labels.getProductQuantity());
+            this.productsAdded = true;
+        }
+
+        final Row row = this.sheet.createRow(this.sheet.getLastRowNum() + 1);
+        this.addCellAndSetText(productId, row);
+        this.addCellAndSetText(description, row);
+        row.createCell(2).setCellValue(quantity);
+
+        return row;
+    }
+
+    private void setQuantityCell(final Cell cell, final String quantity) {
+        final long value = Quantities.parse(quantity);
+        if (value == Quantities.NOT_NUMERIC) {
+            cell.setCellValue(quantity);
+        } else {
+            cell.setCellValue(value);
+        }
+    }
+
     private void addRowWithLabelAndValue(final String label, final String value) {
         final Row row = this.sheet.createRow(this.sheet.getLastRowNum() + 1);
 
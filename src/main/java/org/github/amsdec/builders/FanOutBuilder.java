@@ -0,0 +1,163 @@
+package org.github.amsdec.builders;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.github.amsdec.PurchaseOrderBuilder;
+
+/** Replays callbacks to every delegate on its own worker; close it to stop the workers if the producer fails. */
+public class FanOutBuilder<B extends PurchaseOrderBuilder> implements PurchaseOrderBuilder, AutoCloseable {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private static final AtomicInteger WORKER_COUNT = new AtomicInteger();
+
+    private static final ExecutorService WORKERS = Executors.newCachedThreadPool(runnable -> {
+        final Thread worker = new Thread(runnable, "fan-out-builder-" + WORKER_COUNT.incrementAndGet());
+        worker.setDaemon(true);
+        return worker;
+    });
+
+    private final List<B> delegates;
+
+    private final EventRing[] rings;
+
+    private final CountDownLatch finished;
+
+    private final Throwable[] failures;
+
+    private boolean joined;
+
+    public FanOutBuilder(final List<B> delegates) {
+        this(delegates, DEFAULT_CAPACITY);
+    }
+
+    public FanOutBuilder(final List<B> delegates, final int capacity) {
+        this.delegates = Collections.unmodifiableList(new ArrayList<>(delegates));
+        this.rings = new EventRing[this.delegates.size()];
+        this.finished = new CountDownLatch(this.delegates.size());
+        this.failures = new Throwable[this.delegates.size()];
+
+        for (int i = 0; i < this.rings.length; i++) {
+            this.rings[i] = new EventRing(capacity);
+        }
+
+        for (int i = 0; i < this.rings.length; i++) {
+            final int delegate = i;
+            WORKERS.execute(() -> {
+                try {
+                    this.failures[delegate] = this.rings[delegate].consumeUntilEnd(this.delegates.get(delegate));
+                } finally {
+                    this.finished.countDown();
+                }
+            });
+        }
+    }
+
+    @Override
+    public void addPurchaseOrderNumber(final String number) {
+        this.publish(BuilderEvents.PURCHASE_ORDER_NUMBER, number);
+    }
+
+    @Override
+    public void addDate(final String date) {
+        this.publish(BuilderEvents.DATE, date);
+    }
+
+    @Override
+    public void addDeliveryAddress(final String address) {
+        this.publish(BuilderEvents.DELIVERY_ADDRESS, address);
+    }
+
+    @Override
+    public void addRequestorRfc(final String rfc) {
+        this.publish(BuilderEvents.REQUESTOR_RFC, rfc);
+    }
+
+    @Override
+    public void addRequestorName(final String requestor) {
+        this.publish(BuilderEvents.REQUESTOR_NAME, requestor);
+    }
+
+    @Override
+    public void addProviderRfc(final String rfc) {
+        this.publish(BuilderEvents.PROVIDER_RFC, rfc);
+    }
+
+    @Override
+    public void addProviderName(final String provider) {
+        this.publish(BuilderEvents.PROVIDER_NAME, provider);
+    }
+
+    @Override
+    public void addProduct(final String productId) {
+        this.publish(BuilderEvents.PRODUCT, productId);
+    }
+
+    @Override
+    public void setProductQuantity(final String quantity) {
+        this.publish(BuilderEvents.PRODUCT_QUANTITY, quantity);
+    }
+
+    @Override
+    public void setProductDescription(final String description) {
+        this.publish(BuilderEvents.PRODUCT_DESCRIPTION, description);
+    }
+
+    public List<B> join() throws InterruptedException {
+        this.end();
+        this.finished.await();
+
+        for (int i = 0; i < this.failures.length; i++) {
+            if (this.failures[i] != null) {
+                throw new IllegalStateException(
+                        String.format("Delegate %s failed: %s", this.delegates.get(i).getClass().getSimpleName(),
+                                this.failures[i].getMessage()),
+                        this.failures[i]);
+            }
+        }
+
+        return this.delegates;
+    }
+
+    @Override
+    public void close() {
+        this.end();
+
+        boolean interrupted = false;
+        while (true) {
+            try {
+                this.finished.await();
+                break;
+            } catch (final InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void end() {
+        if (!this.joined) {
+            this.joined = true;
+            this.publish(EventRing.END, null);
+        }
+    }
+
+    private void publish(final byte event, final String value) {
+        if (this.joined && event != EventRing.END) {
+            throw new IllegalStateException("Builder already joined");
+        }
+
+        for (final EventRing ring : this.rings) {
+            ring.put(event, value);
+        }
+    }
+}
@@ -1,36 +1,60 @@
 package org.github.amsdec.builders;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+
 import javax.xml.parsers.ParserConfigurationException;
 
-import org.github.amsdec.PurchaseOrderBuilder;
+import org.github.amsdec.ProductBatch;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
 
 import lombok.Getter;
 
-public class HtmlBuilder implements PurchaseOrderBuilder {
+public class HtmlBuilder implements ReusableBuilder {
 
     @Getter
-    private final Document doc;
+    private Document doc;
 
-    private final Element body;
+    private Element body;
 
     private Element table;
 
+    private final Labels labels;
+
+    private StringBuilder heading = new StringBuilder();
+
+    private StringBuilder scratch = new StringBuilder();
+
     public HtmlBuilder() throws ParserConfigurationException {
-        final DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-        final DocumentBuilder db = dbf.newDocumentBuilder();
+        this(Labels.DEFAULT);
+    }
 
-        this.doc = db.newDocument();
-        this.body = this.doc.createElement("body");
+    public HtmlBuilder(final Labels labels) throws ParserConfigurationException {
+        this.labels = labels;
+        this.startDocument(DocumentBuilders.newDocument());
+    }
 
-        final Element html = this.doc.createElement("html");
-        html.appendChild(this.doc.createElement("head"));
-        html.appendChild(this.body);
-        this.doc.appendChild(html);
+    public void writeTo(final OutputStream out) throws IOException {
+        this.writeTo(out, DocumentFormat.COMPACT);
+    }
+
+    public void writeTo(final OutputStream out, final DocumentFormat format) throws IOException {
+        DocumentWriter.write(this.doc, DocumentWriter.HTML, format, out);
+    }
+
+    public void writeTo(final WritableByteChannel channel) throws IOException {
+        this.writeTo(channel, DocumentFormat.COMPACT);
+    }
+
+    public void writeTo(final WritableByteChannel channel, final DocumentFormat format) throws IOException {
+        DocumentWriter.write(this.doc, DocumentWriter.HTML, format, channel);
+    }
+
+    @Override
+    public void reset() {
+        this.startDocument(DocumentBuilders.newDocumentForReset());
     }
 
     @Override
@@ -45,12 +69,12 @@ public class HtmlBuilder implements PurchaseOrderBuilder {
 
     @Override
     public void addDeliveryAddress(final String address) {
-        this.addHeader("h3", String.format("Entregar en: %s", address));
+        this.addHeader("h3", this.labels.getHeadingTemplate(), this.labels.getDeliveryAddress(), address);
     }
 
     @Override
     public void addRequestorRfc(final String rfc) {
-        this.addRfc(rfc, "Solicitante");
+        this.addRfc(rfc, this.labels.getRequestor());
     }
 
     @Override
@@ -60,7 +84,7 @@ public class HtmlBuilder implements PurchaseOrderBuilder {
 
     @Override
     public void addProviderRfc(final String rfc) {
-        this.addRfc(rfc, "Proveedor");
+        this.addRfc(rfc, this.labels.getProvider());
     }
 
     @Override
@@ -70,17 +94,32 @@ public class HtmlBuilder implements PurchaseOrderBuilder {
 
     @Override
     public void addProduct(final String productId) {
-        if (!"table".equals(this.body.getLastChild().getNodeName())) {
-            this.table = this.doc.createElement("table");
-            this.body.appendChild(this.table);
+        this.startProductTable();
 
-            this.table.appendChild(this.doc.createElement("theader"));
-            this.addRow("th", "ID", "Descripción", "Cantidad");
+        this.addRow("td", productId, productId, "0");
+    }
 
-            this.table.appendChild(this.doc.createElement("tbody"));
+    @Override
+    public void addProducts(final ProductBatch products) {
+        for (int i = 0; i < products.size(); i++) {
+            final String productId = products.getId(i);
+            final String quantity = products.getQuantity(i);
+            final String description = products.getDescription(i);
+
+            if (productId == null) {
+                if (quantity != null) {
+                    this.setProductQuantity(quantity);
+                }
+                if (description != null) {
+                    this.setProductDescription(description);
+                }
+                continue;
+            }
+
+            this.startProductTable();
+            this.addRow("td", productId, description == null ? productId : description,
+                    quantity == null ? "0" : quantity);
         }
-
-        this.addRow("td", productId, productId, "0");
     }
 
     @Override
@@ -94,20 +133,64 @@ public class HtmlBuilder implements PurchaseOrderBuilder {
                 .setTextContent(description);
     }
 
-    private void addHeader(final String tagName, final String format) {
+    private void startDocument(final Document document) {
+        this.doc = document;
+        this.table = null;
+        this.heading.setLength(0);
+        this.body = this.doc.createElement("body");
+
+        final Element html = this.doc.createElement("html");
+        html.appendChild(this.doc.createElement("head"));
+        html.appendChild(this.body);
+        this.doc.appendChild(html);
+    }
+
+    private void startProductTable() {
+        if (!"table".equals(this.body.getLastChild().getNodeName())) {
+            this.table = this.doc.createElement("table");
+            this.body.appendChild(this.table);
+
+            this.table.appendChild(this.doc.createElement("theader"));
+            this.addRow("th", this.labels.getProductId(), this.labels.getProductDescription(),
+                    this.labels.getProductQuantity());
+
+            this.table.appendChild(this.doc.createElement("tbody"));
+        }
+    }
+
+    private void addHeader(final String tagName, final String text) {
+        this.heading.setLength(0);
+        this.heading.append(text);
+        this.appendHeader(tagName);
+    }
+
+    private void addHeader(final String tagName, final LabelTemplate template, final String first,
+            final String second) {
+        this.heading.setLength(0);
+        template.appendTo(this.heading, first, second);
+        this.appendHeader(tagName);
+    }
+
+    private void appendHeader(final String tagName) {
         final Element header = this.doc.createElement(tagName);
-        header.setTextContent(format);
+        header.setTextContent(this.heading.toString());
         this.body.appendChild(header);
     }
 
     private void addRfc(final String rfc, final String tipo) {
         this.body.appendChild(this.doc.createElement("hr"));
-        this.addHeader("h3", String.format("%s: %s", tipo, rfc));
+        this.addHeader("h3", this.labels.getHeadingTemplate(), tipo, rfc);
     }
 
     private void addName(final String name) {
-        final Node h3 = this.body.getLastChild();
-        h3.setTextContent(String.format("%s - %s", h3.getTextContent(), name));
+        this.scratch.setLength(0);
+        this.labels.getNameTemplate().appendTo(this.scratch, this.heading, name);
+
+        final StringBuilder named = this.scratch;
+        this.scratch = this.heading;
+        this.heading = named;
+
+        this.body.getLastChild().setTextContent(this.heading.toString());
     }
 
     private void addRow(final String columnTag, final String... columnData) {
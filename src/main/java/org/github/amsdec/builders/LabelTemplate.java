@@ -0,0 +1,83 @@
+package org.github.amsdec.builders;
+
+import java.util.Arrays;
+
+public final class LabelTemplate {
+
+    private static final int MAX_ARGUMENTS = 2;
+
+    private final String[] literals;
+
+    private final int[] arguments;
+
+    private LabelTemplate(final String[] literals, final int[] arguments) {
+        this.literals = literals;
+        this.arguments = arguments;
+    }
+
+    public static LabelTemplate compile(final String pattern) {
+        String[] literals = new String[4];
+        int[] arguments = new int[4];
+        int count = 0;
+
+        int literalStart = 0;
+        int open = pattern.indexOf('{');
+        while (open != -1) {
+            final int close = open + 2;
+            if (close >= pattern.length() || pattern.charAt(close) != '}') {
+                throw new IllegalArgumentException(String.format("Invalid label template %s", pattern));
+            }
+
+            final int argument = pattern.charAt(open + 1) - '0';
+            if (argument < 0 || argument >= MAX_ARGUMENTS) {
+                throw new IllegalArgumentException(String.format("Invalid label template %s", pattern));
+            }
+
+            if (count + 1 == literals.length) {
+                literals = Arrays.copyOf(literals, literals.length * 2);
+                arguments = Arrays.copyOf(arguments, arguments.length * 2);
+            }
+            literals[count] = pattern.substring(literalStart, open);
+            arguments[count++] = argument;
+
+            literalStart = close + 1;
+            open = pattern.indexOf('{', literalStart);
+        }
+        literals[count] = pattern.substring(literalStart);
+
+        return new LabelTemplate(Arrays.copyOf(literals, count + 1), Arrays.copyOf(arguments, count));
+    }
+
+    public int getArgumentCount() {
+        return this.arguments.length;
+    }
+
+    public String getLiteral(final int index) {
+        return this.literals[index];
+    }
+
+    public int getArgument(final int index) {
+        return this.arguments[index];
+    }
+
+    public boolean startsWithArgument(final int argument) {
+        return this.arguments.length > 0 && this.arguments[0] == argument && this.literals[0].isEmpty();
+    }
+
+    public StringBuilder appendTo(final StringBuilder out, final CharSequence first) {
+        return this.appendTo(out, first, null);
+    }
+
+    public StringBuilder appendTo(final StringBuilder out, final CharSequence first, final CharSequence second) {
+        for (int i = 0; i < this.arguments.length; i++) {
+            out.append(this.literals[i]);
+            out.append(this.arguments[i] == 0 ? first : second);
+        }
+
+        return out.append(this.literals[this.arguments.length]);
+    }
+
+    public String render(final CharSequence first, final CharSequence second) {
+        return this.appendTo(new StringBuilder(), first, second).toString();
+    }
+}
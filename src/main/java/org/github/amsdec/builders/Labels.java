@@ -0,0 +1,82 @@
+package org.github.amsdec.builders;
+
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import lombok.Getter;
+
+public final class Labels {
+
+    private static final String BUNDLE_NAME = "org.github.amsdec.builders.labels";
+
+    private static final ConcurrentMap<Locale, Labels> LABELS = new ConcurrentHashMap<>();
+
+    public static final Labels DEFAULT = forLocale(Locale.ROOT);
+
+    @Getter
+    private final String orderNumber;
+
+    @Getter
+    private final String date;
+
+    @Getter
+    private final String deliveryAddress;
+
+    @Getter
+    private final String requestor;
+
+    @Getter
+    private final String provider;
+
+    @Getter
+    private final String rfc;
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final String products;
+
+    @Getter
+    private final String productId;
+
+    @Getter
+    private final String productDescription;
+
+    @Getter
+    private final String productQuantity;
+
+    @Getter
+    private final LabelTemplate headingTemplate;
+
+    @Getter
+    private final LabelTemplate nameTemplate;
+
+    private Labels(final ResourceBundle bundle) {
+        this.orderNumber = bundle.getString("order.number");
+        this.date = bundle.getString("date");
+        this.deliveryAddress = bundle.getString("delivery.address");
+        this.requestor = bundle.getString("requestor");
+        this.provider = bundle.getString("provider");
+        this.rfc = bundle.getString("rfc");
+        this.name = bundle.getString("name");
+        this.products = bundle.getString("products");
+        this.productId = bundle.getString("product.id");
+        this.productDescription = bundle.getString("product.description");
+        this.productQuantity = bundle.getString("product.quantity");
+        this.headingTemplate = LabelTemplate.compile(bundle.getString("template.heading"));
+        this.nameTemplate = LabelTemplate.compile(bundle.getString("template.name"));
+
+        if (!this.nameTemplate.startsWithArgument(0)) {
+            throw new IllegalArgumentException(
+                    String.format("Name template %s must start with {0}", bundle.getString("template.name")));
+        }
+    }
+
+    public static Labels forLocale(final Locale locale) {
+        return LABELS.computeIfAbsent(locale, l -> new Labels(ResourceBundle.getBundle(BUNDLE_NAME, l,
+                ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES))));
+    }
+}
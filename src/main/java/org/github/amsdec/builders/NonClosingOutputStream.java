@@ -0,0 +1,22 @@
+package org.github.amsdec.builders;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+class NonClosingOutputStream extends FilterOutputStream {
+
+    NonClosingOutputStream(final OutputStream out) {
+        super(out);
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+        this.out.write(bytes, offset, length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.flush();
+    }
+}
@@ -0,0 +1,16 @@
+package org.github.amsdec.builders;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+public interface OutputCodec {
+
+    int GZIP_BUFFER_SIZE = 8192;
+
+    OutputCodec NONE = NonClosingOutputStream::new;
+
+    OutputCodec GZIP = out -> new GZIPOutputStream(new NonClosingOutputStream(out), GZIP_BUFFER_SIZE, true);
+
+    OutputStream encode(OutputStream out) throws IOException;
+}
@@ -0,0 +1,8 @@
+package org.github.amsdec.builders;
+
+import org.github.amsdec.PurchaseOrderBuilder;
+
+public interface ReusableBuilder extends PurchaseOrderBuilder {
+
+    void reset();
+}
@@ -0,0 +1,431 @@
+package org.github.amsdec.builders;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import org.github.amsdec.ProductBatch;
+import org.github.amsdec.PurchaseOrderBuilder;
+
+public class StreamingHtmlBuilder implements PurchaseOrderBuilder {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final int MAX_ENCODED_CHAR = 8;
+
+    private static final byte[] DOCUMENT_START = bytes("<html><head>"
+            + "<META http-equiv=\"Content-Type\" content=\"text/html; charset=UTF-8\">" + "</head><body>");
+
+    private static final byte[] DOCUMENT_END = bytes("</body></html>");
+
+    private static final byte[] H1_START = bytes("<h1>");
+
+    private static final byte[] H1_END = bytes("</h1>");
+
+    private static final byte[] H3_START = bytes("<h3>");
+
+    private static final byte[] H3_END = bytes("</h3>");
+
+    private static final byte[] TABLE_START = bytes("<table>");
+
+    private static final byte[] PAGE_TABLE_START = bytes("<table style=\"page-break-before: always\">");
+
+    private static final byte[] HR = bytes("<hr>");
+
+    private static final byte[] TABLE_END = bytes("</tbody></table>");
+
+    private static final byte[] ROW_START = bytes("<tr><td>");
+
+    private static final byte[] CELL_SEPARATOR = bytes("</td><td>");
+
+    private static final byte[] ROW_END = bytes("</td></tr>");
+
+    private static final byte[] AMP = bytes("&amp;");
+
+    private static final byte[] LT = bytes("&lt;");
+
+    private static final byte[] GT = bytes("&gt;");
+
+    private final OutputStream encoded;
+
+    private final Labels labels;
+
+    private final byte[] tableHeader;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    private int size;
+
+    private String openParty;
+
+    private boolean tableOpen;
+
+    private int rowsPerPage;
+
+    private int tableRows;
+
+    private boolean pageBreakPending;
+
+    private String rowId;
+
+    private String rowDescription;
+
+    private String rowQuantity;
+
+    private long rowQuantityValue;
+
+    private boolean rowQuantityNumeric;
+
+    public StreamingHtmlBuilder(final OutputStream out) {
+        this(out, OutputCodec.NONE);
+    }
+
+    public StreamingHtmlBuilder(final OutputStream out, final OutputCodec codec) {
+        this(out, codec, Labels.DEFAULT);
+    }
+
+    public StreamingHtmlBuilder(final OutputStream out, final OutputCodec codec, final Labels labels) {
+        this.labels = labels;
+        this.tableHeader = bytes("<theader><tr><th>" + escape(labels.getProductId()) + "</th><th>"
+                + escape(labels.getProductDescription()) + "</th><th>" + escape(labels.getProductQuantity())
+                + "</th></tr></theader><tbody>");
+
+        try {
+            this.encoded = codec.encode(out);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        this.write(DOCUMENT_START);
+    }
+
+    @Override
+    public void addPurchaseOrderNumber(final String number) {
+        this.addPurchaseOrderNumber((CharSequence) number);
+    }
+
+    @Override
+    public void addPurchaseOrderNumber(final CharSequence number) {
+        this.startBlock();
+        this.write(H1_START);
+        this.writeEscaped(number);
+        this.write(H1_END);
+    }
+
+    @Override
+    public void addDate(final String date) {
+        this.addDate((CharSequence) date);
+    }
+
+    @Override
+    public void addDate(final CharSequence date) {
+        this.startBlock();
+        this.write(H3_START);
+        this.writeEscaped(date);
+        this.write(H3_END);
+    }
+
+    @Override
+    public void addDeliveryAddress(final String address) {
+        this.addDeliveryAddress((CharSequence) address);
+    }
+
+    @Override
+    public void addDeliveryAddress(final CharSequence address) {
+        this.startBlock();
+        this.write(H3_START);
+        this.writeTemplate(this.labels.getHeadingTemplate(), 0, this.labels.getDeliveryAddress(), address);
+        this.write(H3_END);
+    }
+
+    @Override
+    public void addRequestorRfc(final String rfc) {
+        this.addRequestorRfc((CharSequence) rfc);
+    }
+
+    @Override
+    public void addRequestorRfc(final CharSequence rfc) {
+        this.startParty(this.labels.getRequestor(), rfc);
+    }
+
+    @Override
+    public void addRequestorName(final String requestor) {
+        this.addRequestorName((CharSequence) requestor);
+    }
+
+    @Override
+    public void addRequestorName(final CharSequence requestor) {
+        this.addPartyName(this.labels.getRequestor(), requestor);
+    }
+
+    @Override
+    public void addProviderRfc(final String rfc) {
+        this.addProviderRfc((CharSequence) rfc);
+    }
+
+    @Override
+    public void addProviderRfc(final CharSequence rfc) {
+        this.startParty(this.labels.getProvider(), rfc);
+    }
+
+    @Override
+    public void addProviderName(final String provider) {
+        this.addProviderName((CharSequence) provider);
+    }
+
+    @Override
+    public void addProviderName(final CharSequence provider) {
+        this.addPartyName(this.labels.getProvider(), provider);
+    }
+
+    @Override
+    public void addProduct(final String productId) {
+        this.closeHeading();
+        this.writeRow();
+        this.openTable();
+
+        this.rowId = productId;
+        this.rowQuantityValue = 0;
+        this.rowQuantityNumeric = true;
+    }
+
+    @Override
+    public void addProducts(final ProductBatch products) {
+        for (int i = 0; i < products.size(); i++) {
+            final String productId = products.getId(i);
+            if (productId != null) {
+                this.addProduct(productId);
+            }
+
+            if (products.hasQuantity(i)) {
+                this.setProductQuantity(products.getQuantity(i));
+            }
+
+            if (products.getDescription(i) != null) {
+                this.setProductDescription(products.getDescription(i));
+            }
+        }
+    }
+
+    @Override
+    public void setProductQuantity(final String quantity) {
+        this.rowQuantity = quantity;
+        this.rowQuantityNumeric = false;
+    }
+
+    @Override
+    public void setProductQuantity(final long quantity) {
+        this.rowQuantity = null;
+        this.rowQuantityValue = quantity;
+        this.rowQuantityNumeric = true;
+    }
+
+    @Override
+    public void setProductDescription(final String description) {
+        this.rowDescription = description;
+    }
+
+    public void setRowsPerPage(final int rowsPerPage) {
+        if (rowsPerPage < 0) {
+            throw new IllegalArgumentException(String.format("Invalid rows per page %s", rowsPerPage));
+        }
+
+        this.rowsPerPage = rowsPerPage;
+    }
+
+    public void finish() {
+        this.startBlock();
+        this.write(DOCUMENT_END);
+
+        try {
+            this.flushBuffer();
+            this.encoded.close();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void startBlock() {
+        this.closeHeading();
+        this.writeRow();
+        this.closeTable();
+        this.pageBreakPending = false;
+    }
+
+    private void startParty(final String label, final CharSequence rfc) {
+        this.startBlock();
+        this.write(HR);
+        this.write(H3_START);
+        this.writeTemplate(this.labels.getHeadingTemplate(), 0, label, rfc);
+        this.openParty = label;
+    }
+
+    private void addPartyName(final String label, final CharSequence name) {
+        if (label.equals(this.openParty)) {
+            this.writeTemplate(this.labels.getNameTemplate(), 1, null, name);
+        } else {
+            this.startParty(label, name);
+        }
+    }
+
+    private void closeHeading() {
+        if (this.openParty != null) {
+            this.write(H3_END);
+            this.openParty = null;
+        }
+    }
+
+    private void openTable() {
+        if (!this.tableOpen) {
+            this.write(this.pageBreakPending ? PAGE_TABLE_START : TABLE_START);
+            this.write(this.tableHeader);
+            this.tableOpen = true;
+            this.tableRows = 0;
+            this.pageBreakPending = false;
+        }
+    }
+
+    private void closeTable() {
+        if (this.tableOpen) {
+            this.write(TABLE_END);
+            this.tableOpen = false;
+        }
+    }
+
+    private void emitPage() {
+        this.closeTable();
+        this.pageBreakPending = true;
+
+        try {
+            this.flushBuffer();
+            this.encoded.flush();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeRow() {
+        if (this.rowId == null) {
+            return;
+        }
+
+        this.write(ROW_START);
+        this.writeEscaped(this.rowId);
+        this.write(CELL_SEPARATOR);
+        this.writeEscaped(this.rowDescription == null ? this.rowId : this.rowDescription);
+        this.write(CELL_SEPARATOR);
+        if (this.rowQuantityNumeric) {
+            this.writeDigits(this.rowQuantityValue);
+        } else {
+            this.writeEscaped(this.rowQuantity);
+        }
+        this.write(ROW_END);
+
+        this.rowId = null;
+        this.rowDescription = null;
+        this.rowQuantity = null;
+
+        if (this.rowsPerPage > 0 && ++this.tableRows == this.rowsPerPage) {
+            this.emitPage();
+        }
+    }
+
+    private void writeTemplate(final LabelTemplate template, final int from, final CharSequence first,
+            final CharSequence second) {
+        this.writeEscaped(template.getLiteral(from));
+        for (int i = from; i < template.getArgumentCount(); i++) {
+            this.writeEscaped(template.getArgument(i) == 0 ? first : second);
+            this.writeEscaped(template.getLiteral(i + 1));
+        }
+    }
+
+    private void writeDigits(final long value) {
+        this.ensureCapacity(20);
+
+        if (value < 0) {
+            this.buffer[this.size++] = '-';
+        }
+
+        final int start = this.size;
+        long remaining = value;
+        do {
+            this.buffer[this.size++] = (byte) ('0' + Math.abs(remaining % 10));
+            remaining /= 10;
+        } while (remaining != 0);
+
+        for (int i = start, j = this.size - 1; i < j; i++, j--) {
+            final byte digit = this.buffer[i];
+            this.buffer[i] = this.buffer[j];
+            this.buffer[j] = digit;
+        }
+    }
+
+    private void writeEscaped(final CharSequence text) {
+        final int length = text.length();
+
+        for (int i = 0; i < length;) {
+            this.ensureCapacity(MAX_ENCODED_CHAR);
+
+            final int codePoint = Utf8.codePointAt(text, i);
+            if (codePoint == '&') {
+                this.append(AMP);
+            } else if (codePoint == '<') {
+                this.append(LT);
+            } else if (codePoint == '>') {
+                this.append(GT);
+            } else {
+                this.size = Utf8.encode(codePoint, this.buffer, this.size);
+            }
+            i += Character.charCount(codePoint);
+        }
+    }
+
+    private void write(final byte[] bytes) {
+        if (bytes.length > this.buffer.length - this.size) {
+            this.flushBufferUnchecked();
+            if (bytes.length > this.buffer.length) {
+                try {
+                    this.encoded.write(bytes);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return;
+            }
+        }
+
+        this.append(bytes);
+    }
+
+    private void append(final byte[] bytes) {
+        System.arraycopy(bytes, 0, this.buffer, this.size, bytes.length);
+        this.size += bytes.length;
+    }
+
+    private void ensureCapacity(final int length) {
+        if (this.size + length > this.buffer.length) {
+            this.flushBufferUnchecked();
+        }
+    }
+
+    private void flushBufferUnchecked() {
+        try {
+            this.flushBuffer();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        this.encoded.write(this.buffer, 0, this.size);
+        this.size = 0;
+    }
+
+    private static byte[] bytes(final String fragment) {
+        return fragment.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String escape(final String label) {
+        return label.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
@@ -0,0 +1,210 @@
+package org.github.amsdec.builders;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.github.amsdec.PurchaseOrderBuilder;
+
+public class StreamingXmlBuilder implements PurchaseOrderBuilder {
+
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+    private final OutputStream encoded;
+
+    private final XMLStreamWriter writer;
+
+    private String number;
+
+    private String date;
+
+    private String deliveryAddress;
+
+    private boolean purchaseOrderStarted;
+
+    private boolean productsStarted;
+
+    private String party;
+
+    private String partyRfc;
+
+    private String partyName;
+
+    private String productId;
+
+    private String productQuantity;
+
+    private String productDescription;
+
+    public StreamingXmlBuilder(final OutputStream out) {
+        this(out, OutputCodec.NONE);
+    }
+
+    public StreamingXmlBuilder(final OutputStream out, final OutputCodec codec) {
+        try {
+            this.encoded = codec.encode(out);
+            this.writer = OUTPUT_FACTORY.createXMLStreamWriter(this.encoded, StandardCharsets.UTF_8.name());
+            this.writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (final XMLStreamException e) {
+            throw new IllegalStateException("XML could not be written", e);
+        }
+    }
+
+    @Override
+    public void addPurchaseOrderNumber(final String number) {
+        this.checkHeaderIsOpen();
+        this.number = number;
+    }
+
+    @Override
+    public void addDate(final String date) {
+        this.checkHeaderIsOpen();
+        this.date = date;
+    }
+
+    @Override
+    public void addDeliveryAddress(final String address) {
+        this.checkHeaderIsOpen();
+        this.deliveryAddress = address;
+    }
+
+    @Override
+    public void addRequestorRfc(final String rfc) {
+        this.startParty("Requestor", rfc);
+    }
+
+    @Override
+    public void addRequestorName(final String requestor) {
+        this.partyName = requestor;
+    }
+
+    @Override
+    public void addProviderRfc(final String rfc) {
+        this.startParty("Provider", rfc);
+    }
+
+    @Override
+    public void addProviderName(final String provider) {
+        this.partyName = provider;
+    }
+
+    @Override
+    public void addProduct(final String productId) {
+        try {
+            this.startChild();
+            if (!this.productsStarted) {
+                this.writer.writeStartElement("Products");
+                this.productsStarted = true;
+            }
+        } catch (final XMLStreamException e) {
+            throw new IllegalStateException("XML could not be written", e);
+        }
+
+        this.productId = productId;
+        this.productQuantity = "0";
+        this.productDescription = productId;
+    }
+
+    @Override
+    public void setProductQuantity(final String quantity) {
+        this.productQuantity = quantity;
+    }
+
+    @Override
+    public void setProductDescription(final String description) {
+        this.productDescription = description;
+    }
+
+    public void finish() {
+        try {
+            if (this.purchaseOrderStarted) {
+                this.writePending();
+                if (this.productsStarted) {
+                    this.writer.writeEndElement();
+                }
+                this.writer.writeEndElement();
+            } else {
+                this.writer.writeEmptyElement("PurchaseOrder");
+                this.writePurchaseOrderAttributes();
+            }
+
+            this.writer.writeEndDocument();
+            this.writer.flush();
+            this.encoded.close();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (final XMLStreamException e) {
+            throw new IllegalStateException("XML could not be written", e);
+        }
+    }
+
+    private void startParty(final String party, final String rfc) {
+        try {
+            this.startChild();
+        } catch (final XMLStreamException e) {
+            throw new IllegalStateException("XML could not be written", e);
+        }
+
+        this.party = party;
+        this.partyRfc = rfc;
+    }
+
+    private void startChild() throws XMLStreamException {
+        if (this.purchaseOrderStarted) {
+            this.writePending();
+            return;
+        }
+
+        this.writer.writeStartElement("PurchaseOrder");
+        this.writePurchaseOrderAttributes();
+        this.purchaseOrderStarted = true;
+    }
+
+    private void writePurchaseOrderAttributes() throws XMLStreamException {
+        this.writeAttribute("date", this.date);
+        this.writeAttribute("deliveryTo", this.deliveryAddress);
+        this.writeAttribute("number", this.number);
+    }
+
+    private void writePending() throws XMLStreamException {
+        if (this.party != null) {
+            this.writer.writeEmptyElement(this.party);
+            this.writeAttribute("name", this.partyName);
+            this.writeAttribute("rfc", this.partyRfc);
+
+            this.party = null;
+            this.partyRfc = null;
+            this.partyName = null;
+        }
+
+        if (this.productId != null) {
+            this.writer.writeEmptyElement("Product");
+            this.writeAttribute("description", this.productDescription);
+            this.writeAttribute("id", this.productId);
+            this.writeAttribute("quantity", this.productQuantity);
+
+            this.productId = null;
+            this.productQuantity = null;
+            this.productDescription = null;
+        }
+    }
+
+    private void writeAttribute(final String name, final String value) throws XMLStreamException {
+        if (value != null) {
+            this.writer.writeAttribute(name, value);
+        }
+    }
+
+    private void checkHeaderIsOpen() {
+        if (this.purchaseOrderStarted) {
+            throw new IllegalStateException("Purchase order header has already been written");
+        }
+    }
+}
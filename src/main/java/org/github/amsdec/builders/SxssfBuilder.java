@@ -0,0 +1,40 @@
+package org.github.amsdec.builders;
+
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+public class SxssfBuilder extends ExcelBuilder {
+
+    public static final int DEFAULT_ROW_WINDOW = 16;
+
+    public SxssfBuilder() {
+        this(DEFAULT_ROW_WINDOW);
+    }
+
+    public SxssfBuilder(final int rowWindow) {
+        this(rowWindow, Labels.DEFAULT);
+    }
+
+    public SxssfBuilder(final int rowWindow, final Labels labels) {
+        super(() -> new SXSSFWorkbook(checkRowWindow(rowWindow)), labels);
+    }
+
+    @Override
+    protected boolean keepsSharedStrings() {
+        return false;
+    }
+
+    @Override
+    public void close() {
+        if (!this.isDetached()) {
+            ((SXSSFWorkbook) this.detachWorkbook()).dispose();
+        }
+    }
+
+    private static int checkRowWindow(final int rowWindow) {
+        if (rowWindow < 1) {
+            throw new IllegalArgumentException(String.format("Invalid row window %s", rowWindow));
+        }
+
+        return rowWindow;
+    }
+}
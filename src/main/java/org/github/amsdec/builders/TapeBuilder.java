@@ -0,0 +1,95 @@
+package org.github.amsdec.builders;
+
+import java.util.Arrays;
+
+import org.github.amsdec.PurchaseOrderBuilder;
+
+public class TapeBuilder implements ReusableBuilder {
+
+    private byte[] events = new byte[64];
+
+    private String[] values = new String[64];
+
+    private int size;
+
+    @Override
+    public void addPurchaseOrderNumber(final String number) {
+        this.record(BuilderEvents.PURCHASE_ORDER_NUMBER, number);
+    }
+
+    @Override
+    public void addDate(final String date) {
+        this.record(BuilderEvents.DATE, date);
+    }
+
+    @Override
+    public void addDeliveryAddress(final String address) {
+        this.record(BuilderEvents.DELIVERY_ADDRESS, address);
+    }
+
+    @Override
+    public void addRequestorRfc(final String rfc) {
+        this.record(BuilderEvents.REQUESTOR_RFC, rfc);
+    }
+
+    @Override
+    public void addRequestorName(final String requestor) {
+        this.record(BuilderEvents.REQUESTOR_NAME, requestor);
+    }
+
+    @Override
+    public void addProviderRfc(final String rfc) {
+        this.record(BuilderEvents.PROVIDER_RFC, rfc);
+    }
+
+    @Override
+    public void addProviderName(final String provider) {
+        this.record(BuilderEvents.PROVIDER_NAME, provider);
+    }
+
+    @Override
+    public void addProduct(final String productId) {
+        this.record(BuilderEvents.PRODUCT, productId);
+    }
+
+    @Override
+    public void setProductQuantity(final String quantity) {
+        this.record(BuilderEvents.PRODUCT_QUANTITY, quantity);
+    }
+
+    @Override
+    public void setProductDescription(final String description) {
+        this.record(BuilderEvents.PRODUCT_DESCRIPTION, description);
+    }
+
+    public void replay(final PurchaseOrderBuilder builder) {
+        for (int i = 0; i < this.size; i++) {
+            BuilderEvents.dispatch(this.events[i], this.values[i], builder);
+        }
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public void reset() {
+        this.clear();
+    }
+
+    public void clear() {
+        Arrays.fill(this.values, 0, this.size, null);
+        this.size = 0;
+    }
+
+    private void record(final byte event, final String value) {
+        if (this.size == this.events.length) {
+            this.events = Arrays.copyOf(this.events, this.size * 2);
+            this.values = Arrays.copyOf(this.values, this.size * 2);
+        }
+
+        this.events[this.size] = event;
+        this.values[this.size] = value;
+        this.size++;
+    }
+}
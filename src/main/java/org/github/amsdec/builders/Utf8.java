@@ -0,0 +1,75 @@
+package org.github.amsdec.builders;
+
+final class Utf8 {
+
+    static final int MAX_BYTES_PER_CODE_POINT = 4;
+
+    private static final char REPLACEMENT = '?';
+
+    private Utf8() {
+    }
+
+    static int codePointAt(final CharSequence value, final int i) {
+        final char c = value.charAt(i);
+        if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+            return Character.toCodePoint(c, value.charAt(i + 1));
+        }
+
+        return Character.isSurrogate(c) ? REPLACEMENT : c;
+    }
+
+    static int encodedLength(final CharSequence value) {
+        int encodedLength = 0;
+        for (int i = 0; i < value.length();) {
+            final int codePoint = codePointAt(value, i);
+            encodedLength += encodedLength(codePoint);
+            i += Character.charCount(codePoint);
+        }
+
+        return encodedLength;
+    }
+
+    static int encodedLength(final int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        } else if (codePoint < 0x800) {
+            return 2;
+        } else if (codePoint < 0x10000) {
+            return 3;
+        }
+
+        return 4;
+    }
+
+    static int encode(final CharSequence value, final byte[] target, final int offset) {
+        int position = offset;
+        for (int i = 0; i < value.length();) {
+            final int codePoint = codePointAt(value, i);
+            position = encode(codePoint, target, position);
+            i += Character.charCount(codePoint);
+        }
+
+        return position;
+    }
+
+    static int encode(final int codePoint, final byte[] target, final int offset) {
+        int position = offset;
+        if (codePoint < 0x80) {
+            target[position++] = (byte) codePoint;
+        } else if (codePoint < 0x800) {
+            target[position++] = (byte) (0xC0 | codePoint >> 6);
+            target[position++] = (byte) (0x80 | codePoint & 0x3F);
+        } else if (codePoint < 0x10000) {
+            target[position++] = (byte) (0xE0 | codePoint >> 12);
+            target[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+            target[position++] = (byte) (0x80 | codePoint & 0x3F);
+        } else {
+            target[position++] = (byte) (0xF0 | codePoint >> 18);
+            target[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+            target[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+            target[position++] = (byte) (0x80 | codePoint & 0x3F);
+        }
+
+        return position;
+    }
+}
@@ -5,7 +5,11 @@ import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 public class XlsBuilder extends ExcelBuilder {
 
     public XlsBuilder() {
-        super(new HSSFWorkbook());
+        super(HSSFWorkbook::new);
+    }
+
+    public XlsBuilder(final Labels labels) {
+        super(HSSFWorkbook::new, labels);
     }
 
 }
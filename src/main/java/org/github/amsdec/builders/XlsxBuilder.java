@@ -5,7 +5,11 @@ import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 public class XlsxBuilder extends ExcelBuilder {
 
     public XlsxBuilder() {
-        super(new XSSFWorkbook());
+        super(XSSFWorkbook::new);
+    }
+
+    public XlsxBuilder(final Labels labels) {
+        super(XSSFWorkbook::new, labels);
     }
 
 }
@@ -0,0 +1,21 @@
+package org.github.amsdec.builders;
+
+public final class XlsxBuilders {
+
+    public static final long STREAMING_THRESHOLD = 10_000;
+
+    private XlsxBuilders() {
+    }
+
+    public static ExcelBuilder forExpectedLines(final long expectedLines) {
+        return forExpectedLines(expectedLines, Labels.DEFAULT);
+    }
+
+    public static ExcelBuilder forExpectedLines(final long expectedLines, final Labels labels) {
+        if (expectedLines > STREAMING_THRESHOLD) {
+            return new SxssfBuilder(SxssfBuilder.DEFAULT_ROW_WINDOW, labels);
+        }
+
+        return new XlsxBuilder(labels);
+    }
+}
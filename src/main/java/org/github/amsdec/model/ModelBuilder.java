@@ -0,0 +1,144 @@
+package org.github.amsdec.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.github.amsdec.Quantities;
+import org.github.amsdec.builders.ReusableBuilder;
+
+public class ModelBuilder implements ReusableBuilder {
+
+    static final int NO_DESCRIPTION = -1;
+
+    private final String[] header = new String[7];
+
+    private final Map<String, Integer> descriptionIndex = new HashMap<>();
+
+    private String[] descriptions = new String[16];
+
+    private String[] productIds = new String[16];
+
+    private long[] productQuantities = new long[16];
+
+    private String[] productQuantityTexts = new String[16];
+
+    private int[] productDescriptions = new int[16];
+
+    private int productCount;
+
+    @Override
+    public void addPurchaseOrderNumber(final String number) {
+        this.header[0] = number;
+    }
+
+    @Override
+    public void addDate(final String date) {
+        this.header[1] = date;
+    }
+
+    @Override
+    public void addDeliveryAddress(final String address) {
+        this.header[2] = address;
+    }
+
+    @Override
+    public void addRequestorRfc(final String rfc) {
+        this.header[3] = rfc;
+    }
+
+    @Override
+    public void addRequestorName(final String requestor) {
+        this.header[4] = requestor;
+    }
+
+    @Override
+    public void addProviderRfc(final String rfc) {
+        this.header[5] = rfc;
+    }
+
+    @Override
+    public void addProviderName(final String provider) {
+        this.header[6] = provider;
+    }
+
+    @Override
+    public void addProduct(final String productId) {
+        if (this.productCount == this.productIds.length) {
+            final int capacity = this.productCount * 2;
+            this.productIds = Arrays.copyOf(this.productIds, capacity);
+            this.productQuantities = Arrays.copyOf(this.productQuantities, capacity);
+            this.productQuantityTexts = Arrays.copyOf(this.productQuantityTexts, capacity);
+            this.productDescriptions = Arrays.copyOf(this.productDescriptions, capacity);
+        }
+
+        this.productIds[this.productCount] = productId;
+        this.productQuantities[this.productCount] = 0;
+        this.productQuantityTexts[this.productCount] = null;
+        this.productDescriptions[this.productCount] = NO_DESCRIPTION;
+        this.productCount++;
+    }
+
+    @Override
+    public void setProductQuantity(final String quantity) {
+        final long value = Quantities.parse(quantity);
+        if (value != Quantities.NOT_NUMERIC) {
+            this.setProductQuantity(value);
+            return;
+        }
+
+        final int product = this.lastProduct();
+        this.productQuantities[product] = 0;
+        this.productQuantityTexts[product] = quantity;
+    }
+
+    @Override
+    public void setProductQuantity(final long quantity) {
+        final int product = this.lastProduct();
+        this.productQuantities[product] = quantity;
+        this.productQuantityTexts[product] = null;
+    }
+
+    @Override
+    public void setProductDescription(final String description) {
+        final int product = this.lastProduct();
+
+        Integer entry = this.descriptionIndex.get(description);
+        if (entry == null) {
+            entry = this.descriptionIndex.size();
+            if (entry == this.descriptions.length) {
+                this.descriptions = Arrays.copyOf(this.descriptions, entry * 2);
+            }
+            this.descriptions[entry] = description;
+            this.descriptionIndex.put(description, entry);
+        }
+
+        this.productDescriptions[product] = entry;
+    }
+
+    public PurchaseOrder build() {
+        return new PurchaseOrder(this.header.clone(), Arrays.copyOf(this.productIds, this.productCount),
+                Arrays.copyOf(this.productQuantities, this.productCount),
+                Arrays.copyOf(this.productQuantityTexts, this.productCount),
+                Arrays.copyOf(this.productDescriptions, this.productCount),
+                Arrays.copyOf(this.descriptions, this.descriptionIndex.size()));
+    }
+
+    @Override
+    public void reset() {
+        Arrays.fill(this.header, null);
+        Arrays.fill(this.productIds, 0, this.productCount, null);
+        Arrays.fill(this.productQuantityTexts, 0, this.productCount, null);
+        Arrays.fill(this.descriptions, 0, this.descriptionIndex.size(), null);
+        this.descriptionIndex.clear();
+        this.productCount = 0;
+    }
+
+    private int lastProduct() {
+        if (this.productCount == 0) {
+            throw new IllegalStateException("No product has been added");
+        }
+
+        return this.productCount - 1;
+    }
+}
@@ -0,0 +1,125 @@
+package org.github.amsdec.model;
+
+import java.util.function.BiConsumer;
+
+import org.github.amsdec.ProductBatch;
+import org.github.amsdec.PurchaseOrderBuilder;
+
+import lombok.Getter;
+
+public final class PurchaseOrder {
+
+    @Getter
+    private final String number;
+
+    @Getter
+    private final String date;
+
+    @Getter
+    private final String deliveryAddress;
+
+    @Getter
+    private final String requestorRfc;
+
+    @Getter
+    private final String requestorName;
+
+    @Getter
+    private final String providerRfc;
+
+    @Getter
+    private final String providerName;
+
+    private final String[] productIds;
+
+    private final long[] productQuantities;
+
+    private final String[] productQuantityTexts;
+
+    private final int[] productDescriptions;
+
+    private final String[] descriptions;
+
+    PurchaseOrder(final String[] header, final String[] productIds, final long[] productQuantities,
+            final String[] productQuantityTexts, final int[] productDescriptions, final String[] descriptions) {
+        this.number = header[0];
+        this.date = header[1];
+        this.deliveryAddress = header[2];
+        this.requestorRfc = header[3];
+        this.requestorName = header[4];
+        this.providerRfc = header[5];
+        this.providerName = header[6];
+        this.productIds = productIds;
+        this.productQuantities = productQuantities;
+        this.productQuantityTexts = productQuantityTexts;
+        this.productDescriptions = productDescriptions;
+        this.descriptions = descriptions;
+    }
+
+    public int getProductCount() {
+        return this.productIds.length;
+    }
+
+    public String getProductId(final int product) {
+        return this.productIds[product];
+    }
+
+    public boolean isProductQuantityNumeric(final int product) {
+        return this.productQuantityTexts[product] == null;
+    }
+
+    public long getProductQuantity(final int product) {
+        return this.productQuantities[product];
+    }
+
+    public String getProductQuantityText(final int product) {
+        final String text = this.productQuantityTexts[product];
+
+        return text == null ? Long.toString(this.productQuantities[product]) : text;
+    }
+
+    public String getProductDescription(final int product) {
+        final int description = this.productDescriptions[product];
+
+        return description == ModelBuilder.NO_DESCRIPTION ? this.productIds[product]
+                : this.descriptions[description];
+    }
+
+    public int getDistinctDescriptionCount() {
+        return this.descriptions.length;
+    }
+
+    public void replay(final PurchaseOrderBuilder builder) {
+        this.replay(builder, this.number, PurchaseOrderBuilder::addPurchaseOrderNumber);
+        this.replay(builder, this.date, PurchaseOrderBuilder::addDate);
+        this.replay(builder, this.deliveryAddress, PurchaseOrderBuilder::addDeliveryAddress);
+        this.replay(builder, this.requestorRfc, PurchaseOrderBuilder::addRequestorRfc);
+        this.replay(builder, this.requestorName, PurchaseOrderBuilder::addRequestorName);
+        this.replay(builder, this.providerRfc, PurchaseOrderBuilder::addProviderRfc);
+        this.replay(builder, this.providerName, PurchaseOrderBuilder::addProviderName);
+
+        if (this.productIds.length == 0) {
+            return;
+        }
+
+        final ProductBatch products = new ProductBatch(this.productIds.length);
+        for (int i = 0; i < this.productIds.length; i++) {
+            final int description = this.productDescriptions[i];
+            final String descriptionText = description == ModelBuilder.NO_DESCRIPTION ? null
+                    : this.descriptions[description];
+            if (this.productQuantityTexts[i] == null) {
+                products.add(this.productIds[i], this.productQuantities[i], descriptionText);
+            } else {
+                products.add(this.productIds[i], this.productQuantityTexts[i], descriptionText);
+            }
+        }
+        builder.addProducts(products);
+    }
+
+    private void replay(final PurchaseOrderBuilder builder, final String value,
+            final BiConsumer<PurchaseOrderBuilder, String> callback) {
+        if (value != null) {
+            callback.accept(builder, value);
+        }
+    }
+}
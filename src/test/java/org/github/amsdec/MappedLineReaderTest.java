@@ -0,0 +1,54 @@
+package org.github.amsdec;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MappedLineReaderTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final List<String> lines = new ArrayList<>();
+
+    @Test
+    public void emptyFileGeneratesNoLines() throws IOException {
+        this.read("", 8);
+
+        Assert.assertEquals(Arrays.asList(), this.lines);
+    }
+
+    @Test
+    public void linesCrossingRegionsAreReadWhole() throws IOException {
+        this.read("10001|2021\nFOC|Focaltec\nMOSA|Alberto\n\nP1|5", 16);
+
+        Assert.assertEquals(Arrays.asList("10001|2021", "FOC|Focaltec", "MOSA|Alberto", "", "P1|5"), this.lines);
+    }
+
+    @Test(expected = IOException.class)
+    public void lineLongerThanRegionFails() throws IOException {
+        this.read("10001|2021-10-22 17:13:31|Ofificina\nFOC", 8);
+    }
+
+    private void read(final String content, final long regionSize) throws IOException {
+        final Path path = this.folder.newFile().toPath();
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+
+        MappedLineReader.read(path, regionSize, (bytes, start, end) -> {
+            final byte[] line = new byte[end - start];
+            for (int i = 0; i < line.length; i++) {
+                line[i] = bytes.get(start + i);
+            }
+            this.lines.add(new String(line, StandardCharsets.UTF_8));
+        });
+    }
+}
@@ -0,0 +1,47 @@
+package org.github.amsdec;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ProductBatchTest {
+
+    @Test
+    public void numericQuantitiesKeepTheirSign() {
+        final ProductBatch batch = new ProductBatch(1);
+        batch.add("P1", -1, null);
+        batch.add("P2", "cinco", null);
+        batch.add("P3", null, null);
+
+        Assert.assertTrue(batch.hasQuantity(0));
+        Assert.assertTrue(batch.isQuantityNumeric(0));
+        Assert.assertEquals(-1, batch.getQuantityValue(0));
+        Assert.assertEquals("-1", batch.getQuantity(0));
+
+        Assert.assertTrue(batch.hasQuantity(1));
+        Assert.assertFalse(batch.isQuantityNumeric(1));
+        Assert.assertEquals("cinco", batch.getQuantity(1));
+
+        Assert.assertFalse(batch.hasQuantity(2));
+        Assert.assertNull(batch.getQuantity(2));
+    }
+
+    @Test
+    public void numericQuantitiesKeepTheirText() {
+        final ProductBatch batch = new ProductBatch();
+        batch.add("P1", "05", 5, null);
+
+        Assert.assertTrue(batch.isQuantityNumeric(0));
+        Assert.assertEquals(5, batch.getQuantityValue(0));
+        Assert.assertEquals("05", batch.getQuantity(0));
+    }
+
+    @Test
+    public void clearedSlotsDoNotKeepNumericQuantities() {
+        final ProductBatch batch = new ProductBatch();
+        batch.add("P1", 5, null);
+        batch.clear();
+        batch.add("P2", (String) null, null);
+
+        Assert.assertFalse(batch.hasQuantity(0));
+    }
+}
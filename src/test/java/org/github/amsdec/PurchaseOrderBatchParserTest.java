@@ -0,0 +1,156 @@
+package org.github.amsdec;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PurchaseOrderBatchParserTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final PurchaseOrderBatchParser<TextPurchaseOrderBuilder> parser = new PurchaseOrderBatchParser<>(
+            TextPurchaseOrderBuilder::new);
+
+    @Test
+    public void nullStringGeneratesNoOrders() {
+        Assert.assertTrue(this.parser.parse(null).isEmpty());
+    }
+
+    @Test
+    public void emptyStringGeneratesNoOrders() {
+        Assert.assertTrue(this.parser.parse("").isEmpty());
+    }
+
+    @Test
+    public void singleOrderWithoutSeparatorGeneratesOneOrder() {
+        final List<TextPurchaseOrderBuilder> orders = this.parser.parse("" //
+                + "10001|2021-10-22 17:13:31|Ofificina\n" //
+                + "FOC140516174|Focaltec S.A.P.I. de C.V.\n" //
+                + "MOSA8311152G0|Alberto Montellano Sandoval\n" //
+                + "P1234567890|5|Caja de 100 tornillos\n" //
+                + "");
+
+        Assert.assertEquals(1, orders.size());
+        Assert.assertEquals("" //
+                + "N:10001\n" //
+                + "D:2021-10-22 17:13:31\n" //
+                + "ADD:Ofificina\n" //
+                + "R-R:FOC140516174\n" //
+                + "R-N:Focaltec S.A.P.I. de C.V.\n" //
+                + "P-R:MOSA8311152G0\n" //
+                + "P-N:Alberto Montellano Sandoval\n" //
+                + "ID:P1234567890\n" //
+                + "Q:5\n" //
+                + "DESC:Caja de 100 tornillos\n" //
+                + "", orders.get(0).toString());
+    }
+
+    @Test
+    public void separatedOrdersGenerateOneBuilderPerOrder() {
+        final List<TextPurchaseOrderBuilder> orders = this.parser.parse("" //
+                + "10001|2021-10-22 17:13:31|Ofificina\n" //
+                + "FOC140516174\n" //
+                + "MOSA8311152G0\n" //
+                + "P1234567890|5\n" //
+                + PurchaseOrderBatchParser.RECORD_SEPARATOR + "\n" //
+                + "10002|2021-10-23 09:00:00\n" //
+                + "\n" //
+                + "MOSA8311152G0\n" //
+                + "P0000012345|7\n" //
+                + PurchaseOrderBatchParser.RECORD_SEPARATOR + "\n" //
+                + "");
+
+        Assert.assertEquals(2, orders.size());
+        Assert.assertEquals("" //
+                + "N:10001\n" //
+                + "D:2021-10-22 17:13:31\n" //
+                + "ADD:Ofificina\n" //
+                + "R-R:FOC140516174\n" //
+                + "P-R:MOSA8311152G0\n" //
+                + "ID:P1234567890\n" //
+                + "Q:5\n" //
+                + "", orders.get(0).toString());
+        Assert.assertEquals("" //
+                + "N:10002\n" //
+                + "D:2021-10-23 09:00:00\n" //
+                + "P-R:MOSA8311152G0\n" //
+                + "ID:P0000012345\n" //
+                + "Q:7\n" //
+                + "", orders.get(1).toString());
+    }
+
+    @Test
+    public void manyOrdersKeepInputOrder() {
+        final StringBuilder batch = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            batch.append(i).append("\n\n\nP").append(i).append('|').append(i).append('\n');
+            batch.append(PurchaseOrderBatchParser.RECORD_SEPARATOR).append('\n');
+        }
+
+        final List<TextPurchaseOrderBuilder> orders = new PurchaseOrderBatchParser<>(TextPurchaseOrderBuilder::new,
+                new ForkJoinPool(4)).parse(batch.toString());
+
+        Assert.assertEquals(1000, orders.size());
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals("N:" + i + "\nID:P" + i + "\nQ:" + i + "\n", orders.get(i).toString());
+        }
+    }
+
+    @Test
+    public void readerGeneratesSameOrdersAsString() throws IOException {
+        final StringBuilder batch = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            batch.append(i).append("\n\n\nP").append(i).append('|').append(i).append('\n');
+            batch.append(PurchaseOrderBatchParser.RECORD_SEPARATOR).append(i % 3 == 0 ? "\n" : "");
+        }
+        batch.append("\n").append(PurchaseOrderBatchParser.RECORD_SEPARATOR).append("last");
+
+        final List<TextPurchaseOrderBuilder> expected = this.parser.parse(batch.toString());
+        final List<TextPurchaseOrderBuilder> read = this.parser.parseFrom(new Reader() {
+
+            private int position;
+
+            @Override
+            public int read(final char[] buffer, final int offset, final int length) {
+                if (this.position == batch.length()) {
+                    return -1;
+                }
+
+                buffer[offset] = batch.charAt(this.position++);
+                return 1;
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+
+        Assert.assertEquals(101, read.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(expected.get(i).toString(), read.get(i).toString());
+        }
+    }
+
+    @Test
+    public void pathIsParsedLikeString() throws IOException {
+        final String batch = "10001\n\n\nP1|1\n" + PurchaseOrderBatchParser.RECORD_SEPARATOR + "\n10002\n";
+        final Path path = this.folder.newFile().toPath();
+        Files.write(path, batch.getBytes(StandardCharsets.UTF_8));
+
+        final List<TextPurchaseOrderBuilder> orders = this.parser.parseFrom(path);
+
+        Assert.assertEquals(2, orders.size());
+        Assert.assertEquals("N:10001\nID:P1\nQ:1\n", orders.get(0).toString());
+        Assert.assertEquals("N:10002\n", orders.get(1).toString());
+    }
+}
@@ -1,21 +1,51 @@
 package org.github.amsdec;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import lombok.Getter;
 import lombok.Setter;
 
 public class PurchaseOrderBuilderTest implements PurchaseOrderBuilder {
 
+    private static final String FULL_ORDER_RESULT = "" //
+            + "N:10001\n" //
+            + "D:2021-10-22 17:13:31\n" //
+            + "ADD:Ofificina\n" //
+            + "R-R:FOC140516174\n" //
+            + "R-N:Focaltec S.A.P.I. de C.V.\n" //
+            + "P-R:MOSA8311152G0\n" //
+            + "P-N:Alberto Montellano Sandoval\n" //
+            + "P1-ID:P1234567890\n" //
+            + "P1-Q:5\n" //
+            + "P1-D:Caja de 100 tornillos\n" //
+            + "P2-ID:P0000012345\n" //
+            + "P2-Q:5\n" //
+            + "P2-D:Caja de 100 tuercas\n" //
+            + "";
+
     private final PurchaseOrder result = new PurchaseOrder();
 
     private PurchaseOrderStringParser parser;
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Before
     public void setup() {
         this.parser = new PurchaseOrderStringParser(this);
@@ -282,6 +312,366 @@ public class PurchaseOrderBuilderTest implements PurchaseOrderBuilder {
                 + "", this.result.toString());
     }
 
+    @Test
+    public void emptyAndExtraColumnsAreIgnored() {
+        this.parser.parse("" //
+                + "10001||Ofificina|extra\n" //
+                + "|Focaltec S.A.P.I. de C.V.\n" //
+                + "MOSA8311152G0||\n" //
+                + "P1234567890||Caja de 100 tornillos|extra|\n" //
+                + "");
+
+        Assert.assertEquals("" //
+                + "N:10001\n" //
+                + "ADD:Ofificina\n" //
+                + "R-N:Focaltec S.A.P.I. de C.V.\n" //
+                + "P-R:MOSA8311152G0\n" //
+                + "P1-ID:P1234567890\n" //
+                + "P1-Q:0\n" //
+                + "P1-D:Caja de 100 tornillos\n" //
+                + "", this.result.toString());
+    }
+
+    @Test
+    public void parallelProductsGenerateSameResultAsSequential() {
+        final StringBuilder order = new StringBuilder("" //
+                + "10001|2021-10-22 17:13:31|Ofificina\n" //
+                + "FOC140516174|Focaltec S.A.P.I. de C.V.\n" //
+                + "MOSA8311152G0|Alberto Montellano Sandoval\n" //
+                + "");
+        for (int i = 0; i < 20000; i++) {
+            order.append('P').append(i);
+            if (i % 3 != 0) {
+                order.append('|').append(i % 100);
+            }
+            if (i % 5 != 0) {
+                order.append("|Caja ").append(i);
+            }
+            order.append(i % 7 == 0 ? "\n\n" : "\n");
+        }
+
+        final TextPurchaseOrderBuilder sequential = new TextPurchaseOrderBuilder();
+        new PurchaseOrderStringParser(sequential).parse(order.toString());
+
+        final TextPurchaseOrderBuilder parallel = new TextPurchaseOrderBuilder();
+        final PurchaseOrderStringParser parallelParser = new PurchaseOrderStringParser(parallel);
+        parallelParser.setProductPool(new ForkJoinPool(4));
+        parallelParser.parse(order.toString());
+
+        Assert.assertEquals(sequential.toString(), parallel.toString());
+    }
+
+    @Test
+    public void nullReaderGeneratesNullResult() throws IOException {
+        this.parser.parseFrom((StringReader) null);
+
+        Assert.assertEquals("", this.result.toString());
+    }
+
+    @Test
+    public void readerGeneratesSameResultAsString() throws IOException {
+        this.parser.parseFrom(new StringReader("" //
+                + "10001|2021-10-22 17:13:31|Ofificina\n" //
+                + "FOC140516174|Focaltec S.A.P.I. de C.V.\n" //
+                + "MOSA8311152G0|Alberto Montellano Sandoval\n" //
+                + "P1234567890|5|Caja de 100 tornillos\n" //
+                + "P0000012345|5|Caja de 100 tuercas\n" //
+                + ""));
+
+        Assert.assertEquals(FULL_ORDER_RESULT, this.result.toString());
+    }
+
+    @Test
+    public void inputStreamGeneratesResultWithCharset() throws IOException {
+        this.parser.parseFrom(new ByteArrayInputStream("10001|2021-10-22 17:13:31|Oficina de Le\u00f3n"
+                .getBytes(StandardCharsets.ISO_8859_1)), StandardCharsets.ISO_8859_1);
+
+        Assert.assertEquals("" //
+                + "N:10001\n" //
+                + "D:2021-10-22 17:13:31\n" //
+                + "ADD:Oficina de Le\u00f3n\n" //
+                + "", this.result.toString());
+    }
+
+    @Test
+    public void pathGeneratesSameResultAsString() throws IOException {
+        final Path path = this.folder.newFile().toPath();
+        Files.write(path, ("" //
+                + "10001|2021-10-22 17:13:31|Ofificina\n" //
+                + "FOC140516174|Focaltec S.A.P.I. de C.V.\n" //
+                + "MOSA8311152G0|Alberto Montellano Sandoval\n" //
+                + "P1234567890|5|Caja de 100 tornillos\n" //
+                + "P0000012345|5|Caja de 100 tuercas" //
+                + "").getBytes(StandardCharsets.UTF_8));
+
+        this.parser.parseFrom(path);
+
+        Assert.assertEquals(FULL_ORDER_RESULT, this.result.toString());
+    }
+
+    @Test
+    public void mappedPathGeneratesSameResultAsString() throws IOException {
+        final Path path = this.folder.newFile().toPath();
+        Files.write(path, ("" //
+                + "10001|2021-10-22 17:13:31|Ofificina\n" //
+                + "FOC140516174|Focaltec S.A.P.I. de C.V.\n" //
+                + "MOSA8311152G0|Alberto Montellano Sandoval\n" //
+                + "P1234567890|5|Caja de 100 tornillos\n" //
+                + "P0000012345|5|Caja de 100 tuercas\n" //
+                + "").getBytes(StandardCharsets.UTF_8));
+
+        this.parser.parseMapped(path);
+
+        Assert.assertEquals(FULL_ORDER_RESULT, this.result.toString());
+    }
+
+    @Test
+    public void mappedPathDecodesUtf8Fields() throws IOException {
+        final Path path = this.folder.newFile().toPath();
+        Files.write(path, "10001|2021-10-22 17:13:31|Oficina de Le\u00f3n".getBytes(StandardCharsets.UTF_8));
+
+        this.parser.parseMapped(path);
+
+        Assert.assertEquals("" //
+                + "N:10001\n" //
+                + "D:2021-10-22 17:13:31\n" //
+                + "ADD:Oficina de Le\u00f3n\n" //
+                + "", this.result.toString());
+    }
+
+    @Test
+    public void readerWithLinesLongerThanReadBufferGeneratesFullProducts() throws IOException {
+        final StringBuilder description = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            description.append('x');
+        }
+
+        this.parser.parseFrom(new StringReader("" //
+                + "10001\n" //
+                + "\n" //
+                + "\n" //
+                + "P1|1|" + description + "\n" //
+                + "P2|2|" + description //
+                + ""));
+
+        Assert.assertEquals("" //
+                + "N:10001\n" //
+                + "P1-ID:P1\n" //
+                + "P1-Q:1\n" //
+                + "P1-D:" + description + "\n" //
+                + "P2-ID:P2\n" //
+                + "P2-Q:2\n" //
+                + "P2-D:" + description + "\n" //
+                + "", this.result.toString());
+    }
+
+    @Test
+    public void builderFailureDoesNotLeakProductsIntoNextOrder() {
+        final TextPurchaseOrderBuilder text = new TextPurchaseOrderBuilder() {
+
+            private boolean failed;
+
+            @Override
+            public void addProduct(final String productId) {
+                if (!this.failed) {
+                    this.failed = true;
+                    throw new IllegalStateException("Builder failed");
+                }
+                super.addProduct(productId);
+            }
+        };
+        final PurchaseOrderStringParser textParser = new PurchaseOrderStringParser(text);
+
+        try {
+            textParser.parse("1\n\n\nP1|1|x");
+            Assert.fail();
+        } catch (final IllegalStateException e) {
+            Assert.assertEquals("Builder failed", e.getMessage());
+        }
+        textParser.parse("2\n\n\nP9|9|y");
+
+        Assert.assertEquals("N:1\nN:2\nID:P9\nQ:9\nDESC:y\n", text.toString());
+    }
+
+    @Test
+    public void readerFailureDoesNotLeakProductsIntoNextOrder() throws IOException {
+        final String failing = "1\n\n\nP1|1|x\nP2|2|y\n";
+        final Reader reader = new Reader() {
+
+            private int position;
+
+            @Override
+            public int read(final char[] buffer, final int offset, final int length) throws IOException {
+                if (this.position == failing.length()) {
+                    throw new IOException("Reader failed");
+                }
+
+                final int count = Math.min(length, failing.length() - this.position);
+                failing.getChars(this.position, this.position + count, buffer, offset);
+                this.position += count;
+                return count;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        final TextPurchaseOrderBuilder text = new TextPurchaseOrderBuilder();
+        final PurchaseOrderStringParser textParser = new PurchaseOrderStringParser(text);
+
+        try {
+            textParser.parseFrom(reader);
+            Assert.fail();
+        } catch (final IOException e) {
+            Assert.assertEquals("Reader failed", e.getMessage());
+        }
+        textParser.parse("2\n\n\nP9|9|y");
+
+        Assert.assertEquals("N:1\nN:2\nID:P9\nQ:9\nDESC:y\n", text.toString());
+    }
+
+    @Test
+    public void productsBeyondOneBatchAreAllDeliveredInOrder() {
+        final StringBuilder input = new StringBuilder("10001\n\n\n");
+        final StringBuilder expected = new StringBuilder("N:10001\n");
+        for (int i = 1; i <= 600; i++) {
+            input.append('P').append(i).append('|').append(i).append("|Item ").append(i).append('\n');
+            expected.append('P').append(i).append("-ID:P").append(i).append('\n');
+            expected.append('P').append(i).append("-Q:").append(i).append('\n');
+            expected.append('P').append(i).append("-D:Item ").append(i).append('\n');
+        }
+
+        this.parser.parse(input.toString());
+
+        Assert.assertEquals(expected.toString(), this.result.toString());
+    }
+
+    @Test
+    public void productLinesWithoutIdOnlyUpdateThePreviousProduct() {
+        this.parser.parse("" //
+                + "10001\n" //
+                + "\n" //
+                + "\n" //
+                + "P1|1|Uno\n" //
+                + "|2|Dos\n" //
+                + "P3\n" //
+                + "");
+
+        Assert.assertEquals("" //
+                + "N:10001\n" //
+                + "P1-ID:P1\n" //
+                + "P1-Q:2\n" //
+                + "P1-D:Dos\n" //
+                + "P2-ID:P3\n" //
+                + "P2-Q:0\n" //
+                + "P2-D:P3\n" //
+                + "", this.result.toString());
+    }
+
+    @Test
+    public void headerFieldsArePassedAsCharSequences() {
+        final StringBuilder received = new StringBuilder();
+        final PurchaseOrderBuilder builder = new TextPurchaseOrderBuilder() {
+
+            @Override
+            public void addDeliveryAddress(final CharSequence address) {
+                received.append(address instanceof String).append(':').append(address);
+            }
+        };
+
+        new PurchaseOrderStringParser(builder).parse("10001|2021-10-22 17:13:31|Ofificina");
+
+        Assert.assertEquals("false:Ofificina", received.toString());
+    }
+
+    @Test
+    public void charSequenceArgumentsAreReusedBetweenCallbacks() {
+        final List<CharSequence> kept = new ArrayList<>();
+        final PurchaseOrderBuilder builder = new TextPurchaseOrderBuilder() {
+
+            @Override
+            public void addDate(final CharSequence date) {
+                kept.add(date);
+            }
+
+            @Override
+            public void addDeliveryAddress(final CharSequence address) {
+                kept.add(address);
+            }
+        };
+
+        new PurchaseOrderStringParser(builder).parse("10001|2021-10-22 17:13:31|Ofificina");
+
+        Assert.assertSame(kept.get(0), kept.get(1));
+        Assert.assertEquals("Ofificina", kept.get(0).toString());
+    }
+
+    @Test
+    public void stringCallbacksReceiveCopiesOfReusedArguments() {
+        final List<String> kept = new ArrayList<>();
+        final PurchaseOrderBuilder builder = new TextPurchaseOrderBuilder() {
+
+            @Override
+            public void addDate(final String date) {
+                kept.add(date);
+            }
+
+            @Override
+            public void addDeliveryAddress(final String address) {
+                kept.add(address);
+            }
+        };
+
+        new PurchaseOrderStringParser(builder).parse("10001|2021-10-22 17:13:31|Ofificina");
+
+        Assert.assertEquals(Arrays.asList("2021-10-22 17:13:31", "Ofificina"), kept);
+    }
+
+    @Test
+    public void pooledHeaderFieldsArePassedAsStrings() {
+        final StringBuilder received = new StringBuilder();
+        final PurchaseOrderBuilder builder = new TextPurchaseOrderBuilder() {
+
+            @Override
+            public void addDeliveryAddress(final CharSequence address) {
+                received.append(address instanceof String).append(':').append(address);
+            }
+        };
+
+        final PurchaseOrderStringParser pooledParser = new PurchaseOrderStringParser(builder);
+        pooledParser.setStringPool(new StringPool(16));
+        pooledParser.parse("10001|2021-10-22 17:13:31|Ofificina");
+
+        Assert.assertEquals("true:Ofificina", received.toString());
+    }
+
+    @Test
+    public void productLinesAndQuantitiesAreTotalled() {
+        this.parser.parse("" //
+                + "10001\n" //
+                + "\n" //
+                + "\n" //
+                + "P1|5|Uno\n" //
+                + "P2\n" //
+                + "P3|cinco|Tres\n" //
+                + "P4|7|Cuatro\n" //
+                + "|3\n" //
+                + "");
+
+        Assert.assertEquals(4, this.parser.getProductLineCount());
+        Assert.assertEquals(8L, this.parser.getQuantityTotal());
+    }
+
+    @Test
+    public void totalsStartOverForEachOrder() {
+        this.parser.parse("10001\n\n\nP1|5|Uno\nP2|6|Dos");
+        this.parser.parse("10002\n\n\nP3|1|Tres");
+
+        Assert.assertEquals(1, this.parser.getProductLineCount());
+        Assert.assertEquals(1L, this.parser.getQuantityTotal());
+    }
+
     @Override
     public void addPurchaseOrderNumber(final String number) {
         this.result.setNumber(number);
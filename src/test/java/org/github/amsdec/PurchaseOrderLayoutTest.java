@@ -0,0 +1,75 @@
+package org.github.amsdec;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PurchaseOrderLayoutTest {
+
+    private final TextPurchaseOrderBuilder builder = new TextPurchaseOrderBuilder();
+
+    @Test
+    public void defaultLayoutMatchesBuiltInColumns() {
+        Assert.assertEquals(0, PurchaseOrderLayout.DEFAULT.getColumn(PurchaseOrderField.PURCHASE_ORDER_NUMBER));
+        Assert.assertEquals(2, PurchaseOrderLayout.DEFAULT.getColumn(PurchaseOrderField.DELIVERY_ADDRESS));
+        Assert.assertEquals(1, PurchaseOrderLayout.DEFAULT.getColumn(PurchaseOrderField.PROVIDER_NAME));
+        Assert.assertEquals(2, PurchaseOrderLayout.DEFAULT.getColumn(PurchaseOrderField.PRODUCT_DESCRIPTION));
+    }
+
+    @Test
+    public void reorderedColumnsAreDispatchedInFieldOrder() {
+        final PurchaseOrderLayout layout = PurchaseOrderLayout.DEFAULT //
+                .withColumn(PurchaseOrderField.DATE, 0) //
+                .withColumn(PurchaseOrderField.PURCHASE_ORDER_NUMBER, 1) //
+                .withColumn(PurchaseOrderField.REQUESTOR_NAME, 0) //
+                .withColumn(PurchaseOrderField.REQUESTOR_RFC, 1) //
+                .withColumn(PurchaseOrderField.PRODUCT_DESCRIPTION, 0) //
+                .withColumn(PurchaseOrderField.PRODUCT_QUANTITY, 1) //
+                .withColumn(PurchaseOrderField.PRODUCT_ID, 3);
+
+        new PurchaseOrderStringParser(this.builder, layout).parse("" //
+                + "2021-10-22 17:13:31|10001|Ofificina\n" //
+                + "Focaltec S.A.P.I. de C.V.|FOC140516174\n" //
+                + "MOSA8311152G0|Alberto Montellano Sandoval\n" //
+                + "Caja de 100 tornillos|5|ignored|P1234567890\n" //
+                + "");
+
+        Assert.assertEquals("" //
+                + "N:10001\n" //
+                + "D:2021-10-22 17:13:31\n" //
+                + "ADD:Ofificina\n" //
+                + "R-R:FOC140516174\n" //
+                + "R-N:Focaltec S.A.P.I. de C.V.\n" //
+                + "P-R:MOSA8311152G0\n" //
+                + "P-N:Alberto Montellano Sandoval\n" //
+                + "ID:P1234567890\n" //
+                + "Q:5\n" //
+                + "DESC:Caja de 100 tornillos\n" //
+                + "", this.builder.toString());
+    }
+
+    @Test
+    public void fieldsWithoutColumnAreNotParsed() {
+        final PurchaseOrderLayout layout = PurchaseOrderLayout.DEFAULT //
+                .withoutField(PurchaseOrderField.DATE) //
+                .withoutField(PurchaseOrderField.PRODUCT_DESCRIPTION);
+
+        new PurchaseOrderStringParser(this.builder, layout).parse("" //
+                + "10001|2021-10-22 17:13:31|Ofificina\n" //
+                + "\n" //
+                + "\n" //
+                + "P1234567890|5|Caja de 100 tornillos\n" //
+                + "");
+
+        Assert.assertEquals("" //
+                + "N:10001\n" //
+                + "ADD:Ofificina\n" //
+                + "ID:P1234567890\n" //
+                + "Q:5\n" //
+                + "", this.builder.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeColumnIsRejected() {
+        PurchaseOrderLayout.DEFAULT.withColumn(PurchaseOrderField.DATE, -1);
+    }
+}
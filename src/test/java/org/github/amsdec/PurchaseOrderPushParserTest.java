@@ -0,0 +1,117 @@
+package org.github.amsdec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PurchaseOrderPushParserTest {
+
+    private static final String ORDER = "" //
+            + "10001|2021-10-22 17:13:31|Oficina de Le\u00f3n\n" //
+            + "FOC140516174|Focaltec S.A.P.I. de C.V.\n" //
+            + "MOSA8311152G0|Alberto Monta\u00f1o Sandoval\n" //
+            + "P1234567890|5|Caja de 100 tornillos\n" //
+            + "P0000012345|5|Caja de 100 tuercas \u20ac" //
+            + "";
+
+    private static final String RESULT = "" //
+            + "N:10001\n" //
+            + "D:2021-10-22 17:13:31\n" //
+            + "ADD:Oficina de Le\u00f3n\n" //
+            + "R-R:FOC140516174\n" //
+            + "R-N:Focaltec S.A.P.I. de C.V.\n" //
+            + "P-R:MOSA8311152G0\n" //
+            + "P-N:Alberto Monta\u00f1o Sandoval\n" //
+            + "ID:P1234567890\n" //
+            + "Q:5\n" //
+            + "DESC:Caja de 100 tornillos\n" //
+            + "ID:P0000012345\n" //
+            + "Q:5\n" //
+            + "DESC:Caja de 100 tuercas \u20ac\n" //
+            + "";
+
+    private TextPurchaseOrderBuilder builder;
+
+    private PurchaseOrderPushParser parser;
+
+    @Before
+    public void setup() {
+        this.builder = new TextPurchaseOrderBuilder();
+        this.parser = new PurchaseOrderPushParser(this.builder);
+    }
+
+    @Test
+    public void finishWithoutInputGeneratesEmptyResult() {
+        this.parser.finish();
+
+        Assert.assertEquals("", this.builder.toString());
+    }
+
+    @Test
+    public void charChunksGenerateSameResultAsString() {
+        for (int i = 0; i < ORDER.length(); i += 7) {
+            this.parser.feed(ORDER.subSequence(i, Math.min(i + 7, ORDER.length())));
+        }
+        this.parser.finish();
+
+        Assert.assertEquals(RESULT, this.builder.toString());
+    }
+
+    @Test
+    public void byteChunksSplittingMultiByteCharactersGenerateSameResultAsString() {
+        final byte[] bytes = ORDER.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < bytes.length; i++) {
+            this.parser.feed(ByteBuffer.wrap(bytes, i, 1));
+        }
+        this.parser.finish();
+
+        Assert.assertEquals(RESULT, this.builder.toString());
+    }
+
+    @Test
+    public void completeLinesAreEmittedBeforeFinish() {
+        this.parser.feed("10001|2021-10-22 17:13:31|Ofi");
+
+        Assert.assertEquals("", this.builder.toString());
+
+        this.parser.feed(ByteBuffer.wrap("cina\nFOC1405".getBytes(StandardCharsets.UTF_8)));
+
+        Assert.assertEquals("" //
+                + "N:10001\n" //
+                + "D:2021-10-22 17:13:31\n" //
+                + "ADD:Oficina\n" //
+                + "", this.builder.toString());
+    }
+
+    @Test
+    public void finishStartsNextOrderWithHeader() {
+        this.parser.feed("10001\n\nMOSA8311152G0\n");
+        this.parser.finish();
+        this.parser.feed("10002\n");
+        this.parser.finish();
+
+        Assert.assertEquals("" //
+                + "N:10001\n" //
+                + "P-R:MOSA8311152G0\n" //
+                + "N:10002\n" //
+                + "", this.builder.toString());
+    }
+
+    @Test
+    public void totalsAreAvailableAfterFinishUntilNextOrder() {
+        this.parser.feed(ORDER);
+        this.parser.finish();
+
+        Assert.assertEquals(2, this.parser.getProductLineCount());
+        Assert.assertEquals(10L, this.parser.getQuantityTotal());
+
+        this.parser.feed("10002\n\n\nP1|1");
+        this.parser.finish();
+
+        Assert.assertEquals(1, this.parser.getProductLineCount());
+        Assert.assertEquals(1L, this.parser.getQuantityTotal());
+    }
+}
@@ -0,0 +1,240 @@
+package org.github.amsdec;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PurchaseOrderStringParserBenchmark {
+
+    @Param({ "10", "10000" })
+    private int products;
+
+    private String order;
+
+    private BlackholeBuilder builder;
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PurchaseOrderStringParserBenchmark.class.getSimpleName()).build())
+                .run();
+    }
+
+    @Setup
+    public void setup(final Blackhole blackhole) {
+        final StringBuilder order = new StringBuilder("" //
+                + "10001|2021-10-22 17:13:31|Ofificina\n" //
+                + "FOC140516174|Focaltec S.A.P.I. de C.V.\n" //
+                + "MOSA8311152G0|Alberto Montellano Sandoval\n" //
+                + "");
+        for (int i = 0; i < this.products; i++) {
+            order.append("P").append(1000000000 + i).append('|').append(i % 100).append("|Caja de 100 tornillos\n");
+        }
+
+        this.order = order.toString();
+        this.builder = new BlackholeBuilder(blackhole);
+    }
+
+    @Benchmark
+    public void stateMachine() {
+        new PurchaseOrderStringParser(this.builder).parse(this.order);
+    }
+
+    @Benchmark
+    public void biConsumerDispatch() {
+        new BiConsumerPurchaseOrderStringParser(this.builder).parse(this.order);
+    }
+
+    static class BlackholeBuilder implements PurchaseOrderBuilder {
+
+        private final Blackhole blackhole;
+
+        BlackholeBuilder(final Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void addPurchaseOrderNumber(final String number) {
+            this.blackhole.consume(number);
+        }
+
+        @Override
+        public void addDate(final String date) {
+            this.blackhole.consume(date);
+        }
+
+        @Override
+        public void addDeliveryAddress(final String address) {
+            this.blackhole.consume(address);
+        }
+
+        @Override
+        public void addRequestorRfc(final String rfc) {
+            this.blackhole.consume(rfc);
+        }
+
+        @Override
+        public void addRequestorName(final String requestor) {
+            this.blackhole.consume(requestor);
+        }
+
+        @Override
+        public void addProviderRfc(final String rfc) {
+            this.blackhole.consume(rfc);
+        }
+
+        @Override
+        public void addProviderName(final String provider) {
+            this.blackhole.consume(provider);
+        }
+
+        @Override
+        public void addProduct(final String productId) {
+            this.blackhole.consume(productId);
+        }
+
+        @Override
+        public void setProductQuantity(final String quantity) {
+            this.blackhole.consume(quantity);
+        }
+
+        @Override
+        public void setProductDescription(final String description) {
+            this.blackhole.consume(description);
+        }
+    }
+
+    static class BiConsumerPurchaseOrderStringParser {
+
+        private final PurchaseOrderBuilder builder;
+
+        private int lineIndex;
+
+        BiConsumerPurchaseOrderStringParser(final PurchaseOrderBuilder builder) {
+            this.builder = builder;
+        }
+
+        void parse(final String string) {
+            this.lineIndex = 0;
+
+            int lineStart = 0;
+            int lineEnd;
+            while ((lineEnd = string.indexOf('\n', lineStart)) != -1) {
+                this.parseLine(string, lineStart, lineEnd);
+                lineStart = lineEnd + 1;
+            }
+
+            this.parseLine(string, lineStart, string.length());
+        }
+
+        private void parseLine(final CharSequence chars, final int start, final int end) {
+            final int j = this.lineIndex++;
+
+            this.parseLineColumns(chars, start, end, this.columnCount(j), this.columnParser(j));
+        }
+
+        private int columnCount(final int j) {
+            if (j == 0) {
+                return 3;
+            }
+            if (j == 1) {
+                return 2;
+            }
+            if (j == 2) {
+                return 2;
+            }
+            return 3;
+        }
+
+        private BiConsumer<Integer, String> columnParser(final int j) {
+            if (j == 0) {
+                return this::parseHeaderColumn;
+            }
+            if (j == 1) {
+                return this::parseRequestorColumn;
+            }
+            if (j == 2) {
+                return this::parseProviderColumn;
+            }
+            return this::parseProductColumn;
+        }
+
+        private void parseLineColumns(final CharSequence chars, final int start, final int end,
+                final int columnCount, final BiConsumer<Integer, String> columnParser) {
+            int i = 0;
+            int columnStart = start;
+
+            for (int k = start; k <= end && i < columnCount; k++) {
+                if (k == end || chars.charAt(k) == '|') {
+                    if (k > columnStart) {
+                        columnParser.accept(i, chars.subSequence(columnStart, k).toString());
+                    }
+
+                    i++;
+                    columnStart = k + 1;
+                }
+            }
+        }
+
+        private void parseHeaderColumn(final int i, final String column) {
+            if (i == 0) {
+                this.builder.addPurchaseOrderNumber(column);
+            }
+            if (i == 1) {
+                this.builder.addDate(column);
+            }
+            if (i == 2) {
+                this.builder.addDeliveryAddress(column);
+            }
+        }
+
+        private void parseRequestorColumn(final int i, final String column) {
+            if (i == 0) {
+                this.builder.addRequestorRfc(column);
+            }
+            if (i == 1) {
+                this.builder.addRequestorName(column);
+            }
+        }
+
+        private void parseProviderColumn(final int i, final String column) {
+            if (i == 0) {
+                this.builder.addProviderRfc(column);
+            }
+            if (i == 1) {
+                this.builder.addProviderName(column);
+            }
+        }
+
+        private void parseProductColumn(final int i, final String column) {
+            if (i == 0) {
+                this.builder.addProduct(column);
+            }
+            if (i == 1) {
+                this.builder.setProductQuantity(column);
+            }
+            if (i == 2) {
+                this.builder.setProductDescription(column);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.github.amsdec;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PurchaseOrderValidatorTest {
+
+    private final PurchaseOrderValidator validator = new PurchaseOrderValidator();
+
+    @Test
+    public void fullOrderIsValid() throws IOException {
+        final String order = "" //
+                + "10001|2021-10-22 17:13:31|Ofificina\n" //
+                + "FOC140516174|Focaltec S.A.P.I. de C.V.\n" //
+                + "MOSA8311152G0|Alberto Montellano Sandoval\n" //
+                + "P1234567890|5|Caja de 100 tornillos\n" //
+                + "P0000012345\n" //
+                + "P0000056789||Caja de 100 arandelas\n" //
+                + "";
+
+        Assert.assertTrue(this.validator.isValid(order));
+        Assert.assertEquals("[]", this.validator.validate(order).toString());
+        Assert.assertEquals("[]", this.validator.validateFrom(new StringReader(order)).toString());
+    }
+
+    @Test
+    public void emptyStringReportsMissingLines() {
+        Assert.assertFalse(this.validator.isValid(""));
+        Assert.assertEquals("" //
+                + "[1:1: header line is missing, " //
+                + "2:1: requestor line is missing, " //
+                + "3:1: provider line is missing]", this.validator.validate("").toString());
+    }
+
+    @Test
+    public void missingFieldsAreReportedWithLineAndColumn() {
+        Assert.assertEquals("" //
+                + "[1:2: date is missing, " //
+                + "1:3: delivery address is missing, " //
+                + "2:1: requestor RFC is missing, " //
+                + "3:2: provider name is missing]", this.validator.validate("" //
+                        + "10001|\n" //
+                        + "|Focaltec S.A.P.I. de C.V.\n" //
+                        + "MOSA8311152G0\n" //
+                        + "").toString());
+    }
+
+    @Test
+    public void productsWithoutIdOrWithNonNumericQuantityAreReported() throws IOException {
+        final String order = "" //
+                + "10001|2021-10-22 17:13:31|Ofificina\n" //
+                + "FOC140516174|Focaltec S.A.P.I. de C.V.\n" //
+                + "MOSA8311152G0|Alberto Montellano Sandoval\n" //
+                + "P1234567890|cinco|Caja de 100 tornillos\n" //
+                + "\n" //
+                + "|5|Caja de 100 tuercas\n" //
+                + "";
+
+        Assert.assertFalse(this.validator.isValid(order));
+        Assert.assertEquals("" //
+                + "[4:2: quantity is not numeric, " //
+                + "6:1: product ID is missing]", this.validator.validateFrom(new StringReader(order)).toString());
+    }
+}
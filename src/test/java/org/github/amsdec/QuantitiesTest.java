@@ -0,0 +1,39 @@
+package org.github.amsdec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class QuantitiesTest {
+
+    @Test
+    public void digitsAreParsedAsLong() {
+        Assert.assertEquals(0L, Quantities.parse("0"));
+        Assert.assertEquals(1234567890123L, Quantities.parse("1234567890123"));
+        Assert.assertEquals(999999999999999999L, Quantities.parse("999999999999999999"));
+    }
+
+    @Test
+    public void nonDigitsAreNotNumeric() {
+        Assert.assertEquals(Quantities.NOT_NUMERIC, Quantities.parse(""));
+        Assert.assertEquals(Quantities.NOT_NUMERIC, Quantities.parse("-5"));
+        Assert.assertEquals(Quantities.NOT_NUMERIC, Quantities.parse("5.0"));
+        Assert.assertEquals(Quantities.NOT_NUMERIC, Quantities.parse(" 5"));
+        Assert.assertEquals(Quantities.NOT_NUMERIC, Quantities.parse("cinco"));
+    }
+
+    @Test
+    public void valuesThatMightOverflowAreNotNumeric() {
+        Assert.assertEquals(Quantities.NOT_NUMERIC, Quantities.parse("9999999999999999999"));
+    }
+
+    @Test
+    public void rangeOfBytesIsParsed() {
+        final ByteBuffer bytes = ByteBuffer.wrap("P1|42|Uno".getBytes(StandardCharsets.US_ASCII));
+
+        Assert.assertEquals(42L, Quantities.parse(bytes, 3, 5));
+        Assert.assertEquals(Quantities.NOT_NUMERIC, Quantities.parse(bytes, 0, 2));
+    }
+}
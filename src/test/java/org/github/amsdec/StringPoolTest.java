@@ -0,0 +1,78 @@
+package org.github.amsdec;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StringPoolTest {
+
+    @Test
+    public void equalStringsShareOneInstance() {
+        final StringPool pool = new StringPool(64);
+
+        final String first = pool.intern(new String("FOC140516174"));
+        final String second = pool.intern(new String("FOC140516174"));
+
+        Assert.assertSame(first, second);
+        Assert.assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void nullIsNotPooled() {
+        Assert.assertNull(new StringPool(64).intern(null));
+    }
+
+    @Test
+    public void poolIsBoundedBySize() {
+        final StringPool pool = new StringPool(64);
+
+        for (int i = 0; i < 10000; i++) {
+            pool.intern("P" + i);
+        }
+
+        Assert.assertTrue(pool.size() <= 64);
+    }
+
+    @Test
+    public void parserSharesRepeatedFields() {
+        final List<String> descriptions = new ArrayList<>();
+        final PurchaseOrderStringParser parser = new PurchaseOrderStringParser(new TextPurchaseOrderBuilder() {
+
+            @Override
+            public void setProductDescription(final String description) {
+                descriptions.add(description);
+            }
+        });
+        parser.setStringPool(new StringPool(64));
+
+        parser.parse("" //
+                + "10001\n" //
+                + "\n" //
+                + "\n" //
+                + "P1234567890|5|Caja de 100 tornillos\n" //
+                + "P0000012345|5|Caja de 100 tornillos\n" //
+                + "");
+
+        Assert.assertEquals(2, descriptions.size());
+        Assert.assertSame(descriptions.get(0), descriptions.get(1));
+    }
+
+    @Test
+    public void sizeNeverExceedsMaximum() {
+        for (final int maxSize : new int[] { 1, 3, 15, 17, 100 }) {
+            final StringPool pool = new StringPool(maxSize);
+            for (int i = 0; i < 10 * maxSize + 100; i++) {
+                pool.intern("P" + i);
+            }
+
+            Assert.assertEquals(maxSize, pool.size());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void emptyPoolIsRejected() {
+        new StringPool(0);
+    }
+}
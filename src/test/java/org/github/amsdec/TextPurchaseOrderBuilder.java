@@ -0,0 +1,67 @@
+package org.github.amsdec;
+
+public class TextPurchaseOrderBuilder implements PurchaseOrderBuilder {
+
+    private final StringBuilder text = new StringBuilder();
+
+    @Override
+    public void addPurchaseOrderNumber(final String number) {
+        this.addData("N:", number);
+    }
+
+    @Override
+    public void addDate(final String date) {
+        this.addData("D:", date);
+    }
+
+    @Override
+    public void addDeliveryAddress(final String address) {
+        this.addData("ADD:", address);
+    }
+
+    @Override
+    public void addRequestorRfc(final String rfc) {
+        this.addData("R-R:", rfc);
+    }
+
+    @Override
+    public void addRequestorName(final String requestor) {
+        this.addData("R-N:", requestor);
+    }
+
+    @Override
+    public void addProviderRfc(final String rfc) {
+        this.addData("P-R:", rfc);
+    }
+
+    @Override
+    public void addProviderName(final String provider) {
+        this.addData("P-N:", provider);
+    }
+
+    @Override
+    public void addProduct(final String productId) {
+        this.addData("ID:", productId);
+    }
+
+    @Override
+    public void setProductQuantity(final String quantity) {
+        this.addData("Q:", quantity);
+    }
+
+    @Override
+    public void setProductDescription(final String description) {
+        this.addData("DESC:", description);
+    }
+
+    @Override
+    public String toString() {
+        return this.text.toString();
+    }
+
+    private void addData(final String prefix, final String data) {
+        this.text.append(prefix);
+        this.text.append(data);
+        this.text.append("\n");
+    }
+}
@@ -0,0 +1,208 @@
+package org.github.amsdec.builders;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+import org.github.amsdec.PurchaseOrderBinaryFormat;
+import org.github.amsdec.PurchaseOrderBinaryParser;
+import org.github.amsdec.PurchaseOrderStringParser;
+import org.github.amsdec.TextPurchaseOrderBuilder;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BinaryBuilderTest {
+
+    private static final String ORDER = "" //
+            + "10001|2021-10-22 17:13:31|Oficina de Le\u00f3n\n" //
+            + "FOC140516174|Focaltec S.A.P.I. de C.V.\n" //
+            + "MOSA8311152G0|Alberto Montellano Sandoval\n" //
+            + "P1234567890|5|Caja de 100 tornillos\n" //
+            + "P0000012345|5|Caja de 100 tornillos\n" //
+            + "P0000056789\n" //
+            + "P0000099999||Caja de 100 arandelas\n" //
+            + "";
+
+    private BinaryBuilder builder;
+
+    private PurchaseOrderStringParser parser;
+
+    @Before
+    public void setup() {
+        this.builder = new BinaryBuilder();
+        this.parser = new PurchaseOrderStringParser(this.builder);
+    }
+
+    @Test
+    public void emptyOrderRoundTripsToEmptyResult() {
+        this.parser.parse("");
+
+        Assert.assertEquals("", this.replay(this.builder.toByteArray()));
+    }
+
+    @Test
+    public void fullOrderRoundTripsToSameCallbacks() {
+        this.parser.parse(ORDER);
+
+        final TextPurchaseOrderBuilder expected = new TextPurchaseOrderBuilder();
+        new PurchaseOrderStringParser(expected).parse(ORDER);
+
+        Assert.assertEquals(expected.toString(), this.replay(this.builder.toByteArray()));
+    }
+
+    @Test
+    public void repeatedDescriptionsAreStoredOnce() {
+        this.parser.parse(ORDER);
+        final int withRepeatedDescription = this.builder.toByteArray().length;
+
+        final BinaryBuilder distinct = new BinaryBuilder();
+        new PurchaseOrderStringParser(distinct).parse(ORDER.replace("P0000012345|5|Caja de 100 tornillos",
+                "P0000012345|5|Caja de 100 tornillas"));
+
+        Assert.assertTrue(withRepeatedDescription < distinct.toByteArray().length);
+    }
+
+    @Test
+    public void streamOfOrdersIsReadFrameByFrame() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        this.parser.parse("10001\n\n\nP1|1|Uno");
+        this.builder.writeTo(out);
+
+        final BinaryBuilder second = new BinaryBuilder();
+        new PurchaseOrderStringParser(second).parse("10002\n\n\nP2|2|Dos");
+        second.writeTo(out);
+
+        final TextPurchaseOrderBuilder result = new TextPurchaseOrderBuilder();
+        final PurchaseOrderBinaryParser binaryParser = new PurchaseOrderBinaryParser(result);
+        final ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+
+        Assert.assertTrue(binaryParser.parseFrom(in));
+        Assert.assertEquals("N:10001\nID:P1\nQ:1\nDESC:Uno\n", result.toString());
+        Assert.assertTrue(binaryParser.parseFrom(in));
+        Assert.assertFalse(binaryParser.parseFrom(in));
+        Assert.assertEquals("N:10001\nID:P1\nQ:1\nDESC:Uno\nN:10002\nID:P2\nQ:2\nDESC:Dos\n", result.toString());
+    }
+
+    @Test
+    public void multiByteCharactersAreEncodedLikeUtf8Strings() {
+        final String address = "Caf\u00e9 \u20ac \uD83D\uDE00 \uD83D";
+        this.parser.parse("10001|2021-10-22|" + address);
+
+        final BinaryBuilder fromString = new BinaryBuilder();
+        fromString.addPurchaseOrderNumber("10001");
+        fromString.addDate("2021-10-22");
+        fromString.addDeliveryAddress(address);
+
+        Assert.assertArrayEquals(fromString.toByteArray(), this.builder.toByteArray());
+        Assert.assertEquals("N:10001\nD:2021-10-22\nADD:Caf\u00e9 \u20ac \uD83D\uDE00 ?\n",
+                this.replay(this.builder.toByteArray()));
+    }
+
+    @Test
+    public void writeToWithGzipCodecCompressesSameFrame() throws IOException {
+        this.parser.parse(ORDER);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        this.builder.writeTo(out, OutputCodec.GZIP);
+
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            final TextPurchaseOrderBuilder result = new TextPurchaseOrderBuilder();
+            Assert.assertTrue(new PurchaseOrderBinaryParser(result).parseFrom(in));
+            Assert.assertEquals(this.replay(this.builder.toByteArray()), result.toString());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void textIsRejected() {
+        this.replay(ORDER.getBytes());
+    }
+
+    @Test
+    public void numericQuantitiesAreStoredAsVarints() {
+        this.builder.addProduct("P1");
+        this.builder.setProductQuantity("300");
+        this.builder.addProduct("P2");
+        this.builder.setProductQuantity(Long.MAX_VALUE);
+
+        final byte[] bytes = this.builder.toByteArray();
+
+        Assert.assertEquals("ID:P1\nQ:300\nID:P2\nQ:" + Long.MAX_VALUE + "\n", this.replay(bytes));
+        Assert.assertArrayEquals(new byte[] { PurchaseOrderBinaryFormat.PRODUCT_QUANTITY_VALUE, (byte) 0xAC, 0x02 },
+                Arrays.copyOfRange(bytes, PurchaseOrderBinaryFormat.MAGIC.length + 5,
+                        PurchaseOrderBinaryFormat.MAGIC.length + 8));
+    }
+
+    @Test
+    public void nonCanonicalQuantitiesKeepTheirText() {
+        this.builder.addProduct("P1");
+        this.builder.setProductQuantity("05");
+        this.builder.setProductQuantity("cinco");
+        this.builder.setProductQuantity(-3);
+
+        Assert.assertEquals("ID:P1\nQ:05\nQ:cinco\nQ:-3\n", this.replay(this.builder.toByteArray()));
+    }
+
+    @Test(expected = IOException.class)
+    public void negativeFrameLengthIsRejected() throws IOException {
+        this.parseFrame(0x80, 0x80, 0x80, 0x80, 0x08);
+    }
+
+    @Test(expected = IOException.class)
+    public void frameLengthLongerThanFiveBytesIsRejected() throws IOException {
+        this.parseFrame(0x81, 0x80, 0x80, 0x80, 0x80, 0x00);
+    }
+
+    @Test(expected = IOException.class)
+    public void frameLongerThanMaximumIsRejected() throws IOException {
+        final PurchaseOrderBinaryParser binaryParser = new PurchaseOrderBinaryParser(new TextPurchaseOrderBuilder());
+        binaryParser.setMaxFrameLength(2);
+
+        binaryParser.parseFrom(new ByteArrayInputStream(this.frame(3, PurchaseOrderBinaryFormat.PRODUCT, 1, 'a')));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void stringPastFrameEndIsRejected() throws IOException {
+        this.parseFrame(3, PurchaseOrderBinaryFormat.PRODUCT, 0x10, 'a');
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void varintPastFrameEndIsRejected() throws IOException {
+        this.parseFrame(2, PurchaseOrderBinaryFormat.PRODUCT, 0x80);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownDescriptionEntryIsRejected() {
+        this.replay(this.frame(2, PurchaseOrderBinaryFormat.PRODUCT_DESCRIPTION, 3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void truncatedFrameIsRejected() {
+        this.replay(this.frame(5, PurchaseOrderBinaryFormat.PRODUCT, 1, 'a'));
+    }
+
+    private void parseFrame(final int... frame) throws IOException {
+        new PurchaseOrderBinaryParser(new TextPurchaseOrderBuilder())
+                .parseFrom(new ByteArrayInputStream(this.frame(frame)));
+    }
+
+    private byte[] frame(final int... frame) {
+        final byte[] bytes = Arrays.copyOf(PurchaseOrderBinaryFormat.MAGIC,
+                PurchaseOrderBinaryFormat.MAGIC.length + frame.length);
+        for (int i = 0; i < frame.length; i++) {
+            bytes[PurchaseOrderBinaryFormat.MAGIC.length + i] = (byte) frame[i];
+        }
+
+        return bytes;
+    }
+
+    private String replay(final byte[] bytes) {
+        final TextPurchaseOrderBuilder result = new TextPurchaseOrderBuilder();
+        new PurchaseOrderBinaryParser(result).parse(bytes);
+
+        return result.toString();
+    }
+}
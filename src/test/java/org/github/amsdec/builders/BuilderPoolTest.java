@@ -0,0 +1,149 @@
+package org.github.amsdec.builders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.poi.ss.usermodel.Workbook;
+import org.github.amsdec.PurchaseOrderStringParser;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BuilderPoolTest {
+
+    @Test
+    public void releasedBuilderIsResetAndReused() {
+        final BuilderPool<TapeBuilder> pool = new BuilderPool<>(TapeBuilder::new);
+
+        final TapeBuilder builder = pool.acquire();
+        builder.addPurchaseOrderNumber("10001");
+        pool.release(builder);
+
+        Assert.assertEquals(1, pool.idleCount());
+        Assert.assertSame(builder, pool.acquire());
+        Assert.assertEquals(0, builder.size());
+        Assert.assertEquals(0, pool.idleCount());
+    }
+
+    @Test
+    public void idleBuildersAreBoundedByMaxIdle() {
+        final BuilderPool<TapeBuilder> pool = new BuilderPool<>(TapeBuilder::new, 2);
+
+        final TapeBuilder first = pool.acquire();
+        final TapeBuilder second = pool.acquire();
+        final TapeBuilder third = pool.acquire();
+        pool.release(first);
+        pool.release(second);
+        pool.release(third);
+
+        Assert.assertEquals(2, pool.idleCount());
+        Assert.assertSame(first, pool.acquire());
+        Assert.assertSame(second, pool.acquire());
+        Assert.assertNotSame(third, pool.acquire());
+    }
+
+    @Test
+    public void buildersDroppedByFullPoolAreNotReset() {
+        final BuilderPool<TapeBuilder> pool = new BuilderPool<>(TapeBuilder::new, 1);
+
+        final TapeBuilder first = pool.acquire();
+        final TapeBuilder second = pool.acquire();
+        second.addPurchaseOrderNumber("10002");
+        pool.release(first);
+        pool.release(second);
+
+        Assert.assertEquals(1, pool.idleCount());
+        Assert.assertEquals(1, second.size());
+    }
+
+    @Test
+    public void buildersDroppedByFullPoolAreClosed() {
+        final List<ClosingTapeBuilder> closed = new ArrayList<>();
+        final BuilderPool<ClosingTapeBuilder> pool = new BuilderPool<>(() -> new ClosingTapeBuilder(closed), 1);
+
+        final ClosingTapeBuilder first = pool.acquire();
+        final ClosingTapeBuilder second = pool.acquire();
+        pool.release(first);
+        pool.release(second);
+
+        Assert.assertEquals(1, closed.size());
+        Assert.assertSame(second, closed.get(0));
+    }
+
+    @Test
+    public void pooledExcelBuilderKeepsHandedOutWorkbook() {
+        final BuilderPool<XlsxBuilder> pool = new BuilderPool<>(XlsxBuilder::new);
+
+        final XlsxBuilder builder = pool.acquire();
+        new PurchaseOrderStringParser(builder).parse("10001");
+        final Workbook wb = builder.detachWorkbook();
+        pool.release(builder);
+
+        Assert.assertEquals("N\u00famero de orden de compra|10001", new XlsxBuilderTest().getTable(wb));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void builderFactoryFailureIsReported() {
+        new BuilderPool<TapeBuilder>(() -> {
+            throw new Exception("No builder");
+        }).acquire();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void emptyPoolIsRejected() {
+        new BuilderPool<>(TapeBuilder::new, 0);
+    }
+
+    @Test
+    public void pooledDomBuildersRenderOrdersFromSeveralThreads() throws Exception {
+        final BuilderPool<DomBuilder> pool = new BuilderPool<>(DomBuilder::new, 4);
+        final DomBuilderTest domBuilderTest = new DomBuilderTest();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            final List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                final String number = String.valueOf(10000 + i);
+                results.add(executor.submit(() -> {
+                    final DomBuilder builder = pool.acquire();
+                    try {
+                        new PurchaseOrderStringParser(builder).parse(number + "\n\n\nP" + number + "|1|Uno");
+                        return domBuilderTest.getXml(builder.getDoc());
+                    } finally {
+                        pool.release(builder);
+                    }
+                }));
+            }
+
+            for (int i = 0; i < results.size(); i++) {
+                final String number = String.valueOf(10000 + i);
+                Assert.assertEquals("" //
+                        + "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>" //
+                        + "<PurchaseOrder number=\"" + number + "\">" //
+                        + "<Products>" //
+                        + "<Product description=\"Uno\" id=\"P" + number + "\" quantity=\"1\"/>" //
+                        + "</Products>" //
+                        + "</PurchaseOrder>" //
+                        + "", results.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static class ClosingTapeBuilder extends TapeBuilder implements AutoCloseable {
+
+        private final List<ClosingTapeBuilder> closed;
+
+        ClosingTapeBuilder(final List<ClosingTapeBuilder> closed) {
+            this.closed = closed;
+        }
+
+        @Override
+        public void close() {
+            this.closed.add(this);
+        }
+    }
+}
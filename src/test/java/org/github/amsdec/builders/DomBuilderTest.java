@@ -1,6 +1,10 @@
 package org.github.amsdec.builders;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.Transformer;
@@ -9,6 +13,7 @@ import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 
+import org.github.amsdec.ProductBatch;
 import org.github.amsdec.PurchaseOrderStringParser;
 import org.junit.Assert;
 import org.junit.Before;
@@ -17,6 +22,14 @@ import org.w3c.dom.Document;
 
 public class DomBuilderTest {
 
+    private static final String ORDER = "" //
+            + "10001|2021-10-22 17:13:31|Ofificina\n" //
+            + "FOC140516174|Focaltec S.A.P.I. de C.V.\n" //
+            + "MOSA8311152G0|Alberto Montellano Sandoval\n" //
+            + "P1234567890|5|Caja de 100 tornillos\n" //
+            + "P0000012345|5|Caja de 100 tuercas\n" //
+            + "";
+
     private PurchaseOrderStringParser parser;
 
     private DomBuilder builder;
@@ -170,6 +183,20 @@ public class DomBuilderTest {
                 + "");
     }
 
+    @Test
+    public void quantityWithLeadingZeroKeepsItsText() {
+        this.parser.parse("10001\n\n\nP1|05|Uno");
+
+        this.assertXml("" //
+                + "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>" //
+                + "<PurchaseOrder number=\"10001\">" //
+                + "<Products>" //
+                + "<Product description=\"Uno\" id=\"P1\" quantity=\"05\"/>" //
+                + "</Products>" //
+                + "</PurchaseOrder>"//
+                + "");
+    }
+
     @Test
     public void threeProductsGeneratesWithThreeProducts() {
         this.parser.parse("" //
@@ -195,6 +222,114 @@ public class DomBuilderTest {
                 + "");
     }
 
+    @Test
+    public void addProductsGeneratesSameProductsAsSingleCalls() {
+        final ProductBatch products = new ProductBatch(2);
+        products.add("P1234567890", "5", "Caja de 100 tornillos");
+        products.add("P0000012345", null, null);
+        products.add(null, "7", null);
+        products.add("P0000056789", null, "Caja de 100 arandelas");
+
+        this.builder.addProducts(products);
+
+        this.assertXml("" //
+                + "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>" //
+                + "<PurchaseOrder>" //
+                + "<Products>" //
+                + "<Product description=\"Caja de 100 tornillos\" id=\"P1234567890\" quantity=\"5\"/>" //
+                + "<Product description=\"P0000012345\" id=\"P0000012345\" quantity=\"7\"/>" //
+                + "<Product description=\"Caja de 100 arandelas\" id=\"P0000056789\" quantity=\"0\"/>" //
+                + "</Products>" //
+                + "</PurchaseOrder>"//
+                + "");
+    }
+
+    @Test
+    public void resetStartsNewDocumentAndKeepsPreviousOne() {
+        this.parser.parse("10001|2021-10-22 17:13:31|Ofificina\n\n\nP1|1|Uno");
+        final Document previous = this.builder.getDoc();
+
+        this.builder.reset();
+        this.parser.parse("10002");
+
+        Assert.assertNotSame(previous, this.builder.getDoc());
+        Assert.assertEquals("" //
+                + "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>" //
+                + "<PurchaseOrder date=\"2021-10-22 17:13:31\" deliveryTo=\"Ofificina\" number=\"10001\">" //
+                + "<Products>" //
+                + "<Product description=\"Uno\" id=\"P1\" quantity=\"1\"/>" //
+                + "</Products>" //
+                + "</PurchaseOrder>"//
+                + "", this.getXml(previous));
+        this.assertXml("" //
+                + "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>" //
+                + "<PurchaseOrder number=\"10002\"/>"//
+                + "");
+    }
+
+    @Test
+    public void writeToGeneratesSameXmlAsIdentityTransform() throws IOException {
+        this.parser.parse(ORDER);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        this.builder.writeTo(out);
+
+        Assert.assertEquals(this.getXml(this.builder.getDoc()), new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void writeToChannelGeneratesSameXmlAsOutputStream() throws IOException {
+        this.parser.parse(ORDER);
+        final ByteArrayOutputStream streamOut = new ByteArrayOutputStream();
+        final ByteArrayOutputStream channelOut = new ByteArrayOutputStream();
+
+        this.builder.writeTo(streamOut);
+        this.builder.writeTo(Channels.newChannel(channelOut));
+
+        Assert.assertArrayEquals(streamOut.toByteArray(), channelOut.toByteArray());
+    }
+
+    @Test
+    public void writeToWithPrettyFormatIndentsElements() throws IOException {
+        this.parser.parse("10001\nFOC140516174\n\nP1|1|Uno");
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        this.builder.writeTo(out, DocumentFormat.PRETTY);
+
+        final String xml = new String(out.toByteArray(), StandardCharsets.UTF_8).replace("\r\n", "\n");
+        Assert.assertTrue(xml.endsWith("" //
+                + "<PurchaseOrder number=\"10001\">\n" //
+                + "  <Requestor rfc=\"FOC140516174\"/>\n" //
+                + "  <Products>\n" //
+                + "    <Product description=\"Uno\" id=\"P1\" quantity=\"1\"/>\n" //
+                + "  </Products>\n" //
+                + "</PurchaseOrder>\n" //
+                + ""));
+    }
+
+    @Test
+    public void writeToWithEncodingWritesDeclaredCharset() throws IOException {
+        this.parser.parse("10001|2021-10-22|Le\u00f3n");
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        this.builder.writeTo(out, DocumentFormat.COMPACT.withEncoding(StandardCharsets.ISO_8859_1));
+
+        Assert.assertEquals("" //
+                + "<?xml version=\"1.0\" encoding=\"ISO-8859-1\" standalone=\"no\"?>" //
+                + "<PurchaseOrder date=\"2021-10-22\" deliveryTo=\"Le\u00f3n\" number=\"10001\"/>" //
+                + "", new String(out.toByteArray(), StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    public void writeToWithGzipCodecCompressesSameXml() throws IOException {
+        this.parser.parse(ORDER);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        this.builder.writeTo(out, DocumentFormat.COMPACT.withCodec(OutputCodec.GZIP));
+
+        Assert.assertEquals(this.getXml(this.builder.getDoc()), OutputCodecTest.gunzip(out.toByteArray()));
+    }
+
     private void assertXml(final String expected) {
         Assert.assertEquals(expected, this.getXml(this.builder.getDoc()));
     }
@@ -0,0 +1,46 @@
+package org.github.amsdec.builders;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.github.amsdec.TextPurchaseOrderBuilder;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EventRingTest {
+
+    @Test
+    public void interruptedConsumerReturnsFailureAndReleasesProducer() throws InterruptedException {
+        final EventRing ring = new EventRing(2);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread consumer = new Thread(() -> failure.set(ring.consumeUntilEnd(new TextPurchaseOrderBuilder())));
+        consumer.start();
+
+        consumer.interrupt();
+        consumer.join(10_000);
+
+        Assert.assertFalse(consumer.isAlive());
+        Assert.assertTrue(failure.get() instanceof InterruptedException);
+
+        for (int i = 0; i < 10; i++) {
+            ring.put(BuilderEvents.PRODUCT, "P" + i);
+        }
+    }
+
+    @Test
+    public void consumerReplaysEventsUntilEnd() throws InterruptedException {
+        final EventRing ring = new EventRing(2);
+        final TextPurchaseOrderBuilder builder = new TextPurchaseOrderBuilder();
+        final Thread consumer = new Thread(() -> ring.consumeUntilEnd(builder));
+        consumer.start();
+
+        for (int i = 0; i < 10; i++) {
+            ring.put(BuilderEvents.PRODUCT, "P" + i);
+        }
+        ring.put(EventRing.END, null);
+        consumer.join(10_000);
+
+        Assert.assertFalse(consumer.isAlive());
+        Assert.assertTrue(builder.toString().startsWith("ID:P0\nID:P1\n"));
+        Assert.assertTrue(builder.toString().endsWith("ID:P9\n"));
+    }
+}
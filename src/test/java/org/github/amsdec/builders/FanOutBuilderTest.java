@@ -0,0 +1,116 @@
+package org.github.amsdec.builders;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.github.amsdec.PurchaseOrderBuilder;
+import org.github.amsdec.PurchaseOrderStringParser;
+import org.github.amsdec.TextPurchaseOrderBuilder;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FanOutBuilderTest {
+
+    private static final String ORDER = "" //
+            + "10001|2021-10-22 17:13:31|Ofificina\n" //
+            + "FOC140516174|Focaltec S.A.P.I. de C.V.\n" //
+            + "MOSA8311152G0|Alberto Montellano Sandoval\n" //
+            + "P1234567890|5|Caja de 100 tornillos\n" //
+            + "P0000012345|5|Caja de 100 tuercas\n" //
+            + "P0000056789|5|Caja de 100 arandelas\n" //
+            + "";
+
+    @Test
+    public void everyDelegateReceivesAllCallbacksInOrder() throws InterruptedException {
+        final StringBuilder order = new StringBuilder(ORDER);
+        for (int i = 0; i < 5000; i++) {
+            order.append('P').append(i).append('|').append(i).append("|Caja ").append(i).append('\n');
+        }
+
+        final TextPurchaseOrderBuilder expected = new TextPurchaseOrderBuilder();
+        new PurchaseOrderStringParser(expected).parse(order.toString());
+
+        final FanOutBuilder<TextPurchaseOrderBuilder> builder = new FanOutBuilder<>(
+                Arrays.asList(new TextPurchaseOrderBuilder(), new TextPurchaseOrderBuilder()), 8);
+        new PurchaseOrderStringParser(builder).parse(order.toString());
+        final List<TextPurchaseOrderBuilder> results = builder.join();
+
+        Assert.assertEquals(2, results.size());
+        Assert.assertEquals(expected.toString(), results.get(0).toString());
+        Assert.assertEquals(expected.toString(), results.get(1).toString());
+    }
+
+    @Test
+    public void formatsAreRenderedLikeSequentialBuilders() throws InterruptedException, ParserConfigurationException {
+        final DomBuilder expectedDom = new DomBuilder();
+        new PurchaseOrderStringParser(expectedDom).parse(ORDER);
+        final XlsxBuilder expectedXlsx = new XlsxBuilder();
+        new PurchaseOrderStringParser(expectedXlsx).parse(ORDER);
+
+        final DomBuilder dom = new DomBuilder();
+        final XlsxBuilder xlsx = new XlsxBuilder();
+        final FanOutBuilder<PurchaseOrderBuilder> builder = new FanOutBuilder<>(Arrays.asList(dom, xlsx));
+        new PurchaseOrderStringParser(builder).parse(ORDER);
+        builder.join();
+
+        final DomBuilderTest xml = new DomBuilderTest();
+        Assert.assertEquals(xml.getXml(expectedDom.getDoc()), xml.getXml(dom.getDoc()));
+        final XlsxBuilderTest table = new XlsxBuilderTest();
+        Assert.assertEquals(table.getTable(expectedXlsx.getWb()), table.getTable(xlsx.getWb()));
+    }
+
+    @Test
+    public void delegateFailureIsReportedOnJoin() throws InterruptedException {
+        final FanOutBuilder<TextPurchaseOrderBuilder> builder = new FanOutBuilder<>(
+                Arrays.asList(new TextPurchaseOrderBuilder(), new TextPurchaseOrderBuilder() {
+
+                    @Override
+                    public void addProduct(final String productId) {
+                        throw new IllegalArgumentException("Invalid product " + productId);
+                    }
+                }), 4);
+        new PurchaseOrderStringParser(builder).parse(ORDER);
+
+        try {
+            builder.join();
+            Assert.fail();
+        } catch (final IllegalStateException e) {
+            Assert.assertEquals("Invalid product P1234567890", e.getCause().getMessage());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void callbacksAfterJoinAreRejected() throws InterruptedException {
+        final FanOutBuilder<TextPurchaseOrderBuilder> builder = new FanOutBuilder<>(
+                Arrays.asList(new TextPurchaseOrderBuilder()));
+        builder.join();
+
+        builder.addPurchaseOrderNumber("10001");
+    }
+
+    @Test
+    public void closeAfterProducerFailureStopsWorkers() throws InterruptedException {
+        final TextPurchaseOrderBuilder delegate = new TextPurchaseOrderBuilder();
+
+        try (FanOutBuilder<TextPurchaseOrderBuilder> builder = new FanOutBuilder<>(
+                Arrays.asList(delegate, new TextPurchaseOrderBuilder()), 4)) {
+            builder.addPurchaseOrderNumber("10001");
+            throw new IllegalStateException("Producer failed");
+        } catch (final IllegalStateException e) {
+            Assert.assertEquals("Producer failed", e.getMessage());
+        }
+
+        Assert.assertEquals("N:10001\n", delegate.toString());
+    }
+
+    @Test
+    public void closeAfterJoinIsIgnored() throws InterruptedException {
+        final FanOutBuilder<TextPurchaseOrderBuilder> builder = new FanOutBuilder<>(
+                Arrays.asList(new TextPurchaseOrderBuilder()));
+        builder.join();
+
+        builder.close();
+    }
+}
@@ -1,6 +1,10 @@
 package org.github.amsdec.builders;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.Transformer;
@@ -297,6 +301,48 @@ public class HtmlBuilderTest {
                 + "");
     }
 
+    @Test
+    public void writeToGeneratesCompactHtml() throws IOException {
+        this.parser.parse("10001\n\n\nP1|1|Uno");
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        this.builder.writeTo(out);
+
+        Assert.assertEquals("" //
+                + "<html>" //
+                + "<head>" //
+                + "<META http-equiv=\"Content-Type\" content=\"text/html; charset=UTF-8\">" //
+                + "</head>" //
+                + "<body>" //
+                + "<h1>10001</h1>" //
+                + "<table>" //
+                + "<theader>" //
+                + "<tr><th>ID</th><th>Descripci&oacute;n</th><th>Cantidad</th></tr>" //
+                + "</theader>" //
+                + "<tbody>" //
+                + "<tr><td>P1</td><td>Uno</td><td>1</td></tr>" //
+                + "</tbody>" //
+                + "</table>" //
+                + "</body>" //
+                + "</html>" //
+                + "", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void writeToChannelWithEncodingGeneratesSameHtmlAsOutputStream() throws IOException {
+        this.parser.parse("10001\n\n\nP1|1|Uno");
+        final DocumentFormat format = DocumentFormat.PRETTY.withEncoding(StandardCharsets.ISO_8859_1);
+        final ByteArrayOutputStream streamOut = new ByteArrayOutputStream();
+        final ByteArrayOutputStream channelOut = new ByteArrayOutputStream();
+
+        this.builder.writeTo(streamOut, format);
+        this.builder.writeTo(Channels.newChannel(channelOut), format);
+
+        Assert.assertArrayEquals(streamOut.toByteArray(), channelOut.toByteArray());
+        Assert.assertTrue(new String(streamOut.toByteArray(), StandardCharsets.ISO_8859_1)
+                .contains("charset=ISO-8859-1"));
+    }
+
     private void assertHtml(final String expected) {
         Assert.assertEquals(expected, this.getXml(this.builder.getDoc()));
     }
@@ -0,0 +1,63 @@
+package org.github.amsdec.builders;
+
+import java.util.Locale;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LabelTemplateTest {
+
+    @Test
+    public void templateRendersLiteralsAndArguments() {
+        final LabelTemplate template = LabelTemplate.compile("{0}: {1}");
+
+        Assert.assertEquals("Solicitante: FOC140516174", template.render("Solicitante", "FOC140516174"));
+    }
+
+    @Test
+    public void argumentsCanBeReorderedAndRepeated() {
+        final LabelTemplate template = LabelTemplate.compile("[{1}] {0} ({1})");
+
+        Assert.assertEquals("[b] a (b)", template.render("a", "b"));
+        Assert.assertEquals(3, template.getArgumentCount());
+    }
+
+    @Test
+    public void templateWithoutArgumentsIsLiteral() {
+        final LabelTemplate template = LabelTemplate.compile("Fecha");
+
+        Assert.assertEquals("Fecha", template.render("a", "b"));
+        Assert.assertEquals(0, template.getArgumentCount());
+    }
+
+    @Test
+    public void appendToReusesBuilder() {
+        final StringBuilder out = new StringBuilder("Solicitante: FOC140516174");
+
+        LabelTemplate.compile("{0} - {1}").appendTo(out.delete(0, out.length()), "X", "Focaltec");
+
+        Assert.assertEquals("X - Focaltec", out.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unclosedPlaceholderIsRejected() {
+        LabelTemplate.compile("{0");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownArgumentIsRejected() {
+        LabelTemplate.compile("{2}");
+    }
+
+    @Test
+    public void labelsAreLoadedOncePerLocale() {
+        Assert.assertSame(Labels.forLocale(Locale.ENGLISH), Labels.forLocale(Locale.ENGLISH));
+        Assert.assertEquals("Deliver to", Labels.forLocale(Locale.ENGLISH).getDeliveryAddress());
+        Assert.assertEquals("Descripci\u00f3n", Labels.DEFAULT.getProductDescription());
+    }
+
+    @Test
+    public void unknownLocaleFallsBackToDefaultLabels() {
+        Assert.assertEquals(Labels.DEFAULT.getOrderNumber(), Labels.forLocale(Locale.JAPANESE).getOrderNumber());
+    }
+}
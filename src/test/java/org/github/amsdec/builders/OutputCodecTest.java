@@ -0,0 +1,69 @@
+package org.github.amsdec.builders;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OutputCodecTest {
+
+    @Test
+    public void noneWritesBytesUnchangedAndKeepsTargetOpen() throws IOException {
+        final TrackingOutputStream target = new TrackingOutputStream();
+
+        try (OutputStream encoded = OutputCodec.NONE.encode(target)) {
+            encoded.write("10001".getBytes(StandardCharsets.UTF_8));
+        }
+
+        Assert.assertFalse(target.closed);
+        Assert.assertEquals("10001", new String(target.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void gzipWritesCompleteStreamAndKeepsTargetOpen() throws IOException {
+        final TrackingOutputStream target = new TrackingOutputStream();
+
+        try (OutputStream encoded = OutputCodec.GZIP.encode(target)) {
+            encoded.write("10001".getBytes(StandardCharsets.UTF_8));
+        }
+        target.write('!');
+
+        Assert.assertFalse(target.closed);
+        final byte[] bytes = target.toByteArray();
+        Assert.assertEquals('!', bytes[bytes.length - 1]);
+        Assert.assertEquals("10001", gunzip(bytes, bytes.length - 1));
+    }
+
+    static String gunzip(final byte[] bytes) throws IOException {
+        return gunzip(bytes, bytes.length);
+    }
+
+    static String gunzip(final byte[] bytes, final int length) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes, 0, length))) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static class TrackingOutputStream extends ByteArrayOutputStream {
+
+        private boolean closed;
+
+        @Override
+        public void close() {
+            this.closed = true;
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package org.github.amsdec.builders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.github.amsdec.PurchaseOrderStringParser;
+import org.github.amsdec.model.ModelBuilder;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StreamingHtmlBuilderTest {
+
+    private static final String ORDER = "" //
+            + "10001|2021-10-22 17:13:31|Ofificina\n" //
+            + "FOC140516174|Focaltec S.A.P.I. de C.V.\n" //
+            + "MOSA8311152G0\n" //
+            + "P1234567890|5|Caja de 100 tornillos\n" //
+            + "P0000012345\n" //
+            + "P0000056789||Caja de 100 arandelas\n" //
+            + "P0000099999|cinco|Caja de 100 tuercas\n" //
+            + "";
+
+    private ByteArrayOutputStream out;
+
+    private StreamingHtmlBuilder builder;
+
+    private PurchaseOrderStringParser parser;
+
+    @Before
+    public void setup() {
+        this.out = new ByteArrayOutputStream();
+        this.builder = new StreamingHtmlBuilder(this.out);
+        this.parser = new PurchaseOrderStringParser(this.builder);
+    }
+
+    @Test
+    public void emptyStringGeneratesEmptyBody() {
+        this.parser.parse("");
+
+        this.assertHtml("" //
+                + "<html><head>" //
+                + "<META http-equiv=\"Content-Type\" content=\"text/html; charset=UTF-8\">" //
+                + "</head><body></body></html>" //
+                + "");
+    }
+
+    @Test
+    public void fullOrderGeneratesSameHtmlAsHtmlBuilder() throws ParserConfigurationException, IOException {
+        this.assertSameHtmlAsHtmlBuilder(ORDER);
+    }
+
+    @Test
+    public void productsSplitByHeaderGenerateSameHtmlAsHtmlBuilder() throws ParserConfigurationException,
+            IOException {
+        this.builder.addPurchaseOrderNumber("10001");
+        this.builder.addProduct("P1");
+        this.builder.addDate("2021-10-22");
+        this.builder.addProduct("P2");
+        this.builder.setProductDescription("Dos");
+
+        final HtmlBuilder htmlBuilder = new HtmlBuilder();
+        htmlBuilder.addPurchaseOrderNumber("10001");
+        htmlBuilder.addProduct("P1");
+        htmlBuilder.addDate("2021-10-22");
+        htmlBuilder.addProduct("P2");
+        htmlBuilder.setProductDescription("Dos");
+
+        this.assertHtml(this.write(htmlBuilder));
+    }
+
+    @Test
+    public void markupCharactersAreEscaped() {
+        this.parser.parse("A&B <1>|\"2\"\n\n\nP<1>|7|Tornillos & tuercas");
+
+        this.assertHtml("" //
+                + "<html><head>" //
+                + "<META http-equiv=\"Content-Type\" content=\"text/html; charset=UTF-8\">" //
+                + "</head><body>" //
+                + "<h1>A&amp;B &lt;1&gt;</h1>" //
+                + "<h3>\"2\"</h3>" //
+                + "<table><theader>" //
+                + "<tr><th>ID</th><th>Descripci\u00f3n</th><th>Cantidad</th></tr>" //
+                + "</theader><tbody>" //
+                + "<tr><td>P&lt;1&gt;</td><td>Tornillos &amp; tuercas</td><td>7</td></tr>" //
+                + "</tbody></table>" //
+                + "</body></html>" //
+                + "");
+    }
+
+    @Test
+    public void nonAsciiCharactersAreWrittenAsUtf8() {
+        this.parser.parse("10001|2021-10-22|Le\u00f3n \u20ac \uD83D\uDE00");
+
+        this.assertHtml("" //
+                + "<html><head>" //
+                + "<META http-equiv=\"Content-Type\" content=\"text/html; charset=UTF-8\">" //
+                + "</head><body>" //
+                + "<h1>10001</h1>" //
+                + "<h3>2021-10-22</h3>" //
+                + "<h3>Entregar en: Le\u00f3n \u20ac \uD83D\uDE00</h3>" //
+                + "</body></html>" //
+                + "");
+    }
+
+    @Test
+    public void outputLargerThanBufferIsWrittenCompletely() {
+        final StringBuilder order = new StringBuilder("10001\n\n\n");
+        for (int i = 0; i < 2000; i++) {
+            order.append('P').append(i).append('|').append(i).append("|Producto ").append(i).append('\n');
+        }
+
+        this.parser.parse(order.toString());
+        this.builder.finish();
+
+        final String html = new String(this.out.toByteArray(), StandardCharsets.UTF_8);
+        Assert.assertTrue(html.contains("<tr><td>P0</td><td>Producto 0</td><td>0</td></tr>"));
+        Assert.assertTrue(html.contains("<tr><td>P1999</td><td>Producto 1999</td><td>1999</td></tr>"));
+        Assert.assertTrue(html.endsWith("</tbody></table></body></html>"));
+    }
+
+    @Test
+    public void rowsPerPageSplitsProductsIntoTablesWithRepeatedHeader() {
+        this.builder.setRowsPerPage(2);
+
+        this.parser.parse("10001\n\n\nP1|1|Uno\nP2|2|Dos\nP3|3|Tres\nP4|4|Cuatro\nP5|5|Cinco");
+
+        this.assertHtml("" //
+                + "<html><head>" //
+                + "<META http-equiv=\"Content-Type\" content=\"text/html; charset=UTF-8\">" //
+                + "</head><body>" //
+                + "<h1>10001</h1>" //
+                + "<table><theader>" //
+                + "<tr><th>ID</th><th>Descripci\u00f3n</th><th>Cantidad</th></tr>" //
+                + "</theader><tbody>" //
+                + "<tr><td>P1</td><td>Uno</td><td>1</td></tr>" //
+                + "<tr><td>P2</td><td>Dos</td><td>2</td></tr>" //
+                + "</tbody></table>" //
+                + "<table style=\"page-break-before: always\"><theader>" //
+                + "<tr><th>ID</th><th>Descripci\u00f3n</th><th>Cantidad</th></tr>" //
+                + "</theader><tbody>" //
+                + "<tr><td>P3</td><td>Tres</td><td>3</td></tr>" //
+                + "<tr><td>P4</td><td>Cuatro</td><td>4</td></tr>" //
+                + "</tbody></table>" //
+                + "<table style=\"page-break-before: always\"><theader>" //
+                + "<tr><th>ID</th><th>Descripci\u00f3n</th><th>Cantidad</th></tr>" //
+                + "</theader><tbody>" //
+                + "<tr><td>P5</td><td>Cinco</td><td>5</td></tr>" //
+                + "</tbody></table>" //
+                + "</body></html>" //
+                + "");
+    }
+
+    @Test
+    public void fullPageIsWrittenBeforeOrderEnds() {
+        this.builder.setRowsPerPage(2);
+
+        this.builder.addPurchaseOrderNumber("10001");
+        this.builder.addProduct("P1");
+        this.builder.addProduct("P2");
+        this.builder.addProduct("P3");
+
+        final String written = new String(this.out.toByteArray(), StandardCharsets.UTF_8);
+        Assert.assertTrue(written.endsWith("<tr><td>P2</td><td>P2</td><td>0</td></tr></tbody></table>"));
+    }
+
+    @Test
+    public void fullPageIsWrittenBeforeOrderEndsWithGzipCodec() throws IOException {
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        final StreamingHtmlBuilder gzipBuilder = new StreamingHtmlBuilder(compressed, OutputCodec.GZIP);
+        gzipBuilder.setRowsPerPage(1);
+
+        gzipBuilder.addProduct("P1");
+        gzipBuilder.addProduct("P2");
+
+        Assert.assertTrue(compressed.size() > 0);
+        gzipBuilder.finish();
+        Assert.assertTrue(OutputCodecTest.gunzip(compressed.toByteArray())
+                .contains("<tr><td>P2</td><td>P2</td><td>0</td></tr>"));
+    }
+
+    @Test
+    public void englishLabelsGenerateSameHtmlAsHtmlBuilder() throws ParserConfigurationException, IOException {
+        final Labels labels = Labels.forLocale(Locale.ENGLISH);
+        this.builder = new StreamingHtmlBuilder(this.out, OutputCodec.NONE, labels);
+        new PurchaseOrderStringParser(this.builder).parse(ORDER);
+
+        final HtmlBuilder htmlBuilder = new HtmlBuilder(labels);
+        new PurchaseOrderStringParser(htmlBuilder).parse(ORDER);
+        final String html = this.write(htmlBuilder);
+
+        Assert.assertTrue(html.contains("<h3>Deliver to: Ofificina</h3>"));
+        Assert.assertTrue(html.contains("<h3>Requestor: FOC140516174 - Focaltec S.A.P.I. de C.V.</h3>"));
+        Assert.assertTrue(html.contains("<th>ID</th><th>Description</th><th>Quantity</th>"));
+        this.assertHtml(html);
+    }
+
+    @Test
+    public void negativeQuantitiesAreWrittenWithSign() {
+        this.builder.addProduct("P1");
+        this.builder.setProductQuantity(-1);
+        this.builder.addProduct("P2");
+        this.builder.setProductQuantity(-5);
+        this.builder.addProduct("P3");
+        this.builder.setProductQuantity(Long.MIN_VALUE);
+        this.builder.finish();
+
+        final String html = new String(this.out.toByteArray(), StandardCharsets.UTF_8);
+        Assert.assertTrue(html.contains("<tr><td>P1</td><td>P1</td><td>-1</td></tr>"
+                + "<tr><td>P2</td><td>P2</td><td>-5</td></tr>"
+                + "<tr><td>P3</td><td>P3</td><td>-9223372036854775808</td></tr>"));
+    }
+
+    @Test
+    public void replayedNegativeQuantityGeneratesSameHtmlAsHtmlBuilder()
+            throws ParserConfigurationException, IOException {
+        final ModelBuilder model = new ModelBuilder();
+        new PurchaseOrderStringParser(model).parse("10001\n\n\nP1|-1|x\nP2|-5|y");
+        model.build().replay(this.builder);
+
+        final HtmlBuilder htmlBuilder = new HtmlBuilder();
+        model.build().replay(htmlBuilder);
+
+        this.assertHtml(this.write(htmlBuilder));
+    }
+
+    @Test
+    public void quantityWithLeadingZeroGeneratesSameHtmlAsHtmlBuilder()
+            throws ParserConfigurationException, IOException {
+        this.assertSameHtmlAsHtmlBuilder("10001\n\n\nP1|05|Uno\nP2|5|Dos");
+
+        final String html = new String(this.out.toByteArray(), StandardCharsets.UTF_8);
+        Assert.assertTrue(html.contains("<tr><td>P1</td><td>Uno</td><td>05</td></tr>"
+                + "<tr><td>P2</td><td>Dos</td><td>5</td></tr>"));
+    }
+
+    @Test
+    public void partyWithNameButNoRfcOpensItsOwnHeading() {
+        this.parser.parse("" //
+                + "10001\n" //
+                + "|Focaltec S.A.P.I. de C.V.\n" //
+                + "MOSA8311152G0|Alberto Montellano Sandoval");
+        this.builder.finish();
+
+        final String html = new String(this.out.toByteArray(), StandardCharsets.UTF_8);
+        Assert.assertTrue(html.contains("<h1>10001</h1>" //
+                + "<hr><h3>Solicitante: Focaltec S.A.P.I. de C.V.</h3>" //
+                + "<hr><h3>Proveedor: MOSA8311152G0 - Alberto Montellano Sandoval</h3>"));
+    }
+
+    @Test
+    public void providerNameWithoutRfcIsNotAddedToRequestorHeading() {
+        this.parser.parse("" //
+                + "10001\n" //
+                + "FOC140516174|Focaltec S.A.P.I. de C.V.\n" //
+                + "|Alberto Montellano Sandoval");
+        this.builder.finish();
+
+        final String html = new String(this.out.toByteArray(), StandardCharsets.UTF_8);
+        Assert.assertTrue(html.contains("<hr><h3>Solicitante: FOC140516174 - Focaltec S.A.P.I. de C.V.</h3>" //
+                + "<hr><h3>Proveedor: Alberto Montellano Sandoval</h3>"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeRowsPerPageIsRejected() {
+        this.builder.setRowsPerPage(-1);
+    }
+
+    private void assertSameHtmlAsHtmlBuilder(final String order) throws ParserConfigurationException,
+            IOException {
+        this.parser.parse(order);
+
+        final HtmlBuilder htmlBuilder = new HtmlBuilder();
+        new PurchaseOrderStringParser(htmlBuilder).parse(order);
+
+        this.assertHtml(this.write(htmlBuilder));
+    }
+
+    private String write(final HtmlBuilder htmlBuilder) throws IOException {
+        final ByteArrayOutputStream htmlOut = new ByteArrayOutputStream();
+        htmlBuilder.writeTo(htmlOut);
+
+        return new String(htmlOut.toByteArray(), StandardCharsets.UTF_8).replace("&oacute;", "\u00f3");
+    }
+
+    private void assertHtml(final String expected) {
+        this.builder.finish();
+
+        Assert.assertEquals(expected, new String(this.out.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
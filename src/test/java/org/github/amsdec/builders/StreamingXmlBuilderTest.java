@@ -0,0 +1,112 @@
+package org.github.amsdec.builders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.github.amsdec.PurchaseOrderStringParser;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StreamingXmlBuilderTest {
+
+    private static final String DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>";
+
+    private ByteArrayOutputStream out;
+
+    private StreamingXmlBuilder builder;
+
+    private PurchaseOrderStringParser parser;
+
+    @Before
+    public void setup() {
+        this.out = new ByteArrayOutputStream();
+        this.builder = new StreamingXmlBuilder(this.out);
+        this.parser = new PurchaseOrderStringParser(this.builder);
+    }
+
+    @Test
+    public void emptyStringGeneratesEmptyResult() {
+        this.parser.parse("");
+
+        this.assertXml(DECLARATION + "<PurchaseOrder/>");
+    }
+
+    @Test
+    public void headerOnlyGeneratesEmptyPurchaseOrderWithAttributes() {
+        this.parser.parse("10001|2021-10-22 17:13:31|Ofificina");
+
+        this.assertXml(DECLARATION
+                + "<PurchaseOrder date=\"2021-10-22 17:13:31\" deliveryTo=\"Ofificina\" number=\"10001\"/>");
+    }
+
+    @Test
+    public void fullOrderGeneratesSameXmlAsDomBuilder() throws ParserConfigurationException {
+        this.assertSameXmlAsDomBuilder("" //
+                + "10001|2021-10-22 17:13:31|Ofificina\n" //
+                + "FOC140516174|Focaltec S.A.P.I. de C.V.\n" //
+                + "MOSA8311152G0|Alberto Montellano Sandoval\n" //
+                + "P1234567890|5|Caja de 100 tornillos\n" //
+                + "P0000012345\n" //
+                + "P0000056789||Caja de 100 arandelas\n" //
+                + "");
+    }
+
+    @Test
+    public void partialPartiesGenerateSameXmlAsDomBuilder() throws ParserConfigurationException {
+        this.assertSameXmlAsDomBuilder("" //
+                + "10001\n" //
+                + "FOC140516174\n" //
+                + "MOSA8311152G0|Alberto Montellano Sandoval\n" //
+                + "");
+    }
+
+    @Test
+    public void specialCharactersAreEscapedLikeDomBuilder() throws ParserConfigurationException {
+        this.assertSameXmlAsDomBuilder("" //
+                + "10001|2021-10-22|Calle \"5\" & <Av. 3>\n" //
+                + "\n" //
+                + "\n" //
+                + "P1|2|Tornillos & tuercas <1/4\">\n" //
+                + "");
+    }
+
+    @Test
+    public void gzipCodecCompressesWhileWriting() throws IOException {
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        final StreamingXmlBuilder gzipBuilder = new StreamingXmlBuilder(compressed, OutputCodec.GZIP);
+
+        new PurchaseOrderStringParser(gzipBuilder).parse("10001\n\n\nP1|1|Uno");
+        gzipBuilder.finish();
+
+        Assert.assertEquals(DECLARATION //
+                + "<PurchaseOrder number=\"10001\">" //
+                + "<Products><Product description=\"Uno\" id=\"P1\" quantity=\"1\"/></Products>" //
+                + "</PurchaseOrder>", OutputCodecTest.gunzip(compressed.toByteArray()));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void headerAfterFirstChildIsRejected() {
+        this.builder.addRequestorRfc("FOC140516174");
+        this.builder.addPurchaseOrderNumber("10001");
+    }
+
+    private void assertSameXmlAsDomBuilder(final String order) throws ParserConfigurationException {
+        this.parser.parse(order);
+
+        final DomBuilder domBuilder = new DomBuilder();
+        new PurchaseOrderStringParser(domBuilder).parse(order);
+        final String domXml = new DomBuilderTest().getXml(domBuilder.getDoc());
+
+        this.assertXml(DECLARATION + domXml.substring(domXml.indexOf("?>") + 2));
+    }
+
+    private void assertXml(final String expected) {
+        this.builder.finish();
+
+        Assert.assertEquals(expected, new String(this.out.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
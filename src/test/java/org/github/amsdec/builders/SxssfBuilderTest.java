@@ -0,0 +1,131 @@
+package org.github.amsdec.builders;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.github.amsdec.PurchaseOrderStringParser;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SxssfBuilderTest {
+
+    private static final String ORDER = "" //
+            + "10001|2021-10-22 17:13:31|Ofificina\n" //
+            + "FOC140516174|Focaltec S.A.P.I. de C.V.\n" //
+            + "MOSA8311152G0\n" //
+            + "P1234567890|5|Caja de 100 tornillos\n" //
+            + "P0000012345\n" //
+            + "P0000056789||Caja de 100 arandelas\n" //
+            + "P0000099999|cinco|Caja de 100 tuercas\n" //
+            + "";
+
+    private SxssfBuilder builder;
+
+    @After
+    public void close() {
+        if (this.builder != null) {
+            this.builder.close();
+        }
+    }
+
+    @Test
+    public void smallRowWindowGeneratesSameTableAsXlsxBuilder() throws IOException {
+        final StringBuilder order = new StringBuilder(ORDER);
+        for (int i = 0; i < 1000; i++) {
+            order.append("P").append(i).append('|').append(i).append("|Producto ").append(i).append('\n');
+        }
+
+        this.builder = new SxssfBuilder(1);
+        new PurchaseOrderStringParser(this.builder).parse(order.toString());
+
+        final XlsxBuilder xlsxBuilder = new XlsxBuilder();
+        new PurchaseOrderStringParser(xlsxBuilder).parse(order.toString());
+
+        Assert.assertEquals(this.getTable(xlsxBuilder.getWb()), this.getTable(this.write()));
+    }
+
+    @Test
+    public void resetAfterDetachStartsNewWorkbook() throws IOException {
+        this.builder = new SxssfBuilder();
+        new PurchaseOrderStringParser(this.builder).parse(ORDER);
+        final Workbook first = this.builder.detachWorkbook();
+
+        this.builder.reset();
+        new PurchaseOrderStringParser(this.builder).parse("10002");
+
+        Assert.assertNotSame(first, this.builder.getWb());
+        Assert.assertEquals("N\u00famero de orden de compra|10002", this.getTable(this.write()));
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        first.write(out);
+        ((SXSSFWorkbook) first).dispose();
+        try (Workbook wb = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Assert.assertTrue(this.getTable(wb).startsWith("N\u00famero de orden de compra|10001"));
+        }
+    }
+
+    @Test
+    public void resetClearsWorkbookThatWasNotDetached() throws IOException {
+        this.builder = new SxssfBuilder();
+        new PurchaseOrderStringParser(this.builder).parse(ORDER);
+        this.builder.writeTo(new ByteArrayOutputStream());
+        final Workbook first = this.builder.getWb();
+
+        this.builder.reset();
+        Assert.assertSame(first, this.builder.getWb());
+        new PurchaseOrderStringParser(this.builder).parse("10002");
+
+        try (Workbook wb = this.write()) {
+            Assert.assertEquals(1, wb.getNumberOfSheets());
+            Assert.assertEquals("N\u00famero de orden de compra|10002", this.getTable(wb));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidRowWindowIsRejected() {
+        new SxssfBuilder(0);
+    }
+
+    @Test
+    public void factoryStreamsLargeOrdersOnly() {
+        try (ExcelBuilder small = XlsxBuilders.forExpectedLines(10);
+                ExcelBuilder threshold = XlsxBuilders.forExpectedLines(XlsxBuilders.STREAMING_THRESHOLD);
+                ExcelBuilder large = XlsxBuilders.forExpectedLines(XlsxBuilders.STREAMING_THRESHOLD + 1)) {
+            Assert.assertTrue(small instanceof XlsxBuilder);
+            Assert.assertTrue(threshold instanceof XlsxBuilder);
+            Assert.assertTrue(large instanceof SxssfBuilder);
+        }
+    }
+
+    @Test
+    public void fullPoolClosesDroppedBuilders() throws IOException {
+        final BuilderPool<SxssfBuilder> pool = new BuilderPool<>(SxssfBuilder::new, 1);
+        final SxssfBuilder first = pool.acquire();
+        this.builder = pool.acquire();
+        new PurchaseOrderStringParser(this.builder).parse(ORDER);
+        this.builder.writeTo(new ByteArrayOutputStream());
+
+        pool.release(first);
+        pool.release(this.builder);
+
+        Assert.assertEquals(1, pool.idleCount());
+        Assert.assertSame(first, pool.acquire());
+        first.close();
+    }
+
+    private Workbook write() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        this.builder.writeTo(out);
+
+        return new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    private String getTable(final Workbook wb) {
+        return new XlsxBuilderTest().getTable(wb);
+    }
+}
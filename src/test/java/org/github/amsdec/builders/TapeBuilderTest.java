@@ -0,0 +1,83 @@
+package org.github.amsdec.builders;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.github.amsdec.PurchaseOrderStringParser;
+import org.github.amsdec.TextPurchaseOrderBuilder;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TapeBuilderTest {
+
+    private static final String ORDER = "" //
+            + "10001|2021-10-22 17:13:31|Ofificina\n" //
+            + "FOC140516174|Focaltec S.A.P.I. de C.V.\n" //
+            + "MOSA8311152G0|Alberto Montellano Sandoval\n" //
+            + "P1234567890|5|Caja de 100 tornillos\n" //
+            + "P0000012345\n" //
+            + "P0000056789||Caja de 100 arandelas\n" //
+            + "";
+
+    private TapeBuilder builder;
+
+    private PurchaseOrderStringParser parser;
+
+    @Before
+    public void setup() {
+        this.builder = new TapeBuilder();
+        this.parser = new PurchaseOrderStringParser(this.builder);
+    }
+
+    @Test
+    public void emptyTapeReplaysNothing() {
+        this.parser.parse("");
+
+        final TextPurchaseOrderBuilder result = new TextPurchaseOrderBuilder();
+        this.builder.replay(result);
+
+        Assert.assertEquals(0, this.builder.size());
+        Assert.assertEquals("", result.toString());
+    }
+
+    @Test
+    public void tapeReplaysSameCallbacksIntoEveryBuilder() {
+        this.parser.parse(ORDER);
+
+        final TextPurchaseOrderBuilder expected = new TextPurchaseOrderBuilder();
+        new PurchaseOrderStringParser(expected).parse(ORDER);
+
+        final TextPurchaseOrderBuilder first = new TextPurchaseOrderBuilder();
+        this.builder.replay(first);
+        final TextPurchaseOrderBuilder second = new TextPurchaseOrderBuilder();
+        this.builder.replay(second);
+
+        Assert.assertEquals(expected.toString(), first.toString());
+        Assert.assertEquals(expected.toString(), second.toString());
+    }
+
+    @Test
+    public void tapeReplaysIntoDomBuilderLikeParser() throws ParserConfigurationException {
+        this.parser.parse(ORDER);
+
+        final DomBuilder expected = new DomBuilder();
+        new PurchaseOrderStringParser(expected).parse(ORDER);
+        final DomBuilder replayed = new DomBuilder();
+        this.builder.replay(replayed);
+
+        final DomBuilderTest xml = new DomBuilderTest();
+        Assert.assertEquals(xml.getXml(expected.getDoc()), xml.getXml(replayed.getDoc()));
+    }
+
+    @Test
+    public void clearedTapeCanRecordNextOrder() {
+        this.parser.parse(ORDER);
+        this.builder.clear();
+        this.parser.parse("10002");
+
+        final TextPurchaseOrderBuilder result = new TextPurchaseOrderBuilder();
+        this.builder.replay(result);
+
+        Assert.assertEquals("N:10002\n", result.toString());
+    }
+}
@@ -0,0 +1,37 @@
+package org.github.amsdec.builders;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class Utf8Test {
+
+    @Test
+    public void encodingMatchesStringBytes() {
+        final String value = "a\u00f1\u20ac\ud83d\ude00z";
+        final byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+
+        final byte[] encoded = new byte[Utf8.encodedLength(value)];
+        Assert.assertEquals(encoded.length, Utf8.encode(value, encoded, 0));
+        Assert.assertArrayEquals(expected, encoded);
+    }
+
+    @Test
+    public void unpairedSurrogatesAreReplaced() {
+        final String value = "a\ud83d\ude00\ude00b";
+
+        final byte[] encoded = new byte[Utf8.encodedLength(value)];
+        Utf8.encode(value, encoded, 0);
+
+        Assert.assertArrayEquals("a\ud83d\ude00?b".getBytes(StandardCharsets.UTF_8), encoded);
+    }
+
+    @Test
+    public void encodeWritesAtOffset() {
+        final byte[] encoded = new byte[4];
+
+        Assert.assertEquals(3, Utf8.encode("\u00f1", encoded, 1));
+        Assert.assertArrayEquals(new byte[] { 0, (byte) 0xC3, (byte) 0xB1, 0 }, encoded);
+    }
+}
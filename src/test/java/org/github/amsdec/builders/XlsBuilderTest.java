@@ -3,7 +3,10 @@ package org.github.amsdec.builders;
 import java.util.Iterator;
 
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DataFormatter;
 import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.github.amsdec.PurchaseOrderStringParser;
 import org.junit.Assert;
@@ -41,7 +44,7 @@ public class XlsBuilderTest {
         this.parser.parse("10001");
 
         this.assertTable("" //
-                + "Número de orden de compra|10001"//
+                + "N\u00famero de orden de compra|10001"//
                 + "");
     }
 
@@ -50,7 +53,7 @@ public class XlsBuilderTest {
         this.parser.parse("10001|2021-10-22 17:13:31");
 
         this.assertTable("" //
-                + "Número de orden de compra|10001\n"//
+                + "N\u00famero de orden de compra|10001\n"//
                 + "Fecha|2021-10-22 17:13:31" //
                 + "");
     }
@@ -60,7 +63,7 @@ public class XlsBuilderTest {
         this.parser.parse("10001|2021-10-22 17:13:31|Ofificina");
 
         this.assertTable("" //
-                + "Número de orden de compra|10001\n"//
+                + "N\u00famero de orden de compra|10001\n"//
                 + "Fecha|2021-10-22 17:13:31\n" //
                 + "Entregar en|Ofificina" //
                 + "");
@@ -72,7 +75,7 @@ public class XlsBuilderTest {
                 + "FOC140516174");
 
         this.assertTable("" //
-                + "Número de orden de compra|10001\n"//
+                + "N\u00famero de orden de compra|10001\n"//
                 + "Fecha|2021-10-22 17:13:31\n" //
                 + "Entregar en|Ofificina\n" //
                 + "\n" //
@@ -89,7 +92,7 @@ public class XlsBuilderTest {
                 + "FOC140516174|Focaltec S.A.P.I. de C.V.");
 
         this.assertTable("" //
-                + "Número de orden de compra|10001\n"//
+                + "N\u00famero de orden de compra|10001\n"//
                 + "Fecha|2021-10-22 17:13:31\n" //
                 + "Entregar en|Ofificina\n" //
                 + "\n" //
@@ -107,7 +110,7 @@ public class XlsBuilderTest {
                 + "MOSA8311152G0|Alberto Montellano Sandoval");
 
         this.assertTable("" //
-                + "Número de orden de compra|10001\n"//
+                + "N\u00famero de orden de compra|10001\n"//
                 + "Fecha|2021-10-22 17:13:31\n" //
                 + "Entregar en|Ofificina\n" //
                 + "\n" //
@@ -130,7 +133,7 @@ public class XlsBuilderTest {
                 + "P1234567890");
 
         this.assertTable("" //
-                + "Número de orden de compra|10001\n"//
+                + "N\u00famero de orden de compra|10001\n"//
                 + "Fecha|2021-10-22 17:13:31\n" //
                 + "Entregar en|Ofificina\n" //
                 + "\n" //
@@ -143,7 +146,7 @@ public class XlsBuilderTest {
                 + "MOSA8311152G0|Alberto Montellano Sandoval\n" //
                 + "\n" //
                 + "Productos\n" //
-                + "ID|Descripción|Cantidad\n" //
+                + "ID|Descripci\u00f3n|Cantidad\n" //
                 + "P1234567890|P1234567890|0" //
                 + "");
     }
@@ -157,7 +160,7 @@ public class XlsBuilderTest {
                 + "P1234567890|5|Caja de 100 tornillos");
 
         this.assertTable("" //
-                + "Número de orden de compra|10001\n"//
+                + "N\u00famero de orden de compra|10001\n"//
                 + "Fecha|2021-10-22 17:13:31\n" //
                 + "Entregar en|Ofificina\n" //
                 + "\n" //
@@ -170,7 +173,7 @@ public class XlsBuilderTest {
                 + "MOSA8311152G0|Alberto Montellano Sandoval\n" //
                 + "\n" //
                 + "Productos\n" //
-                + "ID|Descripción|Cantidad\n" //
+                + "ID|Descripci\u00f3n|Cantidad\n" //
                 + "P1234567890|Caja de 100 tornillos|5" //
                 + "");
     }
@@ -187,7 +190,7 @@ public class XlsBuilderTest {
                 + "");
 
         this.assertTable("" //
-                + "Número de orden de compra|10001\n"//
+                + "N\u00famero de orden de compra|10001\n"//
                 + "Fecha|2021-10-22 17:13:31\n" //
                 + "Entregar en|Ofificina\n" //
                 + "\n" //
@@ -200,13 +203,35 @@ public class XlsBuilderTest {
                 + "MOSA8311152G0|Alberto Montellano Sandoval\n" //
                 + "\n" //
                 + "Productos\n" //
-                + "ID|Descripción|Cantidad\n" //
+                + "ID|Descripci\u00f3n|Cantidad\n" //
                 + "P1234567890|Caja de 100 tornillos|5\n" //
                 + "P0000012345|Caja de 100 tuercas|5\n" //
                 + "P0000056789|Caja de 100 arandelas|5" //
                 + "");
     }
 
+    @Test
+    public void quantitiesAreWrittenAsNumericCells() {
+        this.parser.parse("" //
+                + "10001\n" //
+                + "\n" //
+                + "\n" //
+                + "P1|5|Uno\n" //
+                + "P2\n" //
+                + "P3|cinco|Tres\n" //
+                + "");
+
+        final Sheet sheet = this.builder.getWb().getSheetAt(0);
+        final int firstProduct = sheet.getLastRowNum() - 2;
+
+        Assert.assertEquals(CellType.NUMERIC, sheet.getRow(firstProduct).getCell(2).getCellType());
+        Assert.assertEquals(5, sheet.getRow(firstProduct).getCell(2).getNumericCellValue(), 0);
+        Assert.assertEquals(CellType.NUMERIC, sheet.getRow(firstProduct + 1).getCell(2).getCellType());
+        Assert.assertEquals(0, sheet.getRow(firstProduct + 1).getCell(2).getNumericCellValue(), 0);
+        Assert.assertEquals(CellType.STRING, sheet.getRow(firstProduct + 2).getCell(2).getCellType());
+        Assert.assertEquals("cinco", sheet.getRow(firstProduct + 2).getCell(2).getStringCellValue());
+    }
+
     private void assertTable(final String expected) {
         Assert.assertEquals(expected, this.getTable(this.builder.getWb()));
     }
@@ -214,6 +239,7 @@ public class XlsBuilderTest {
     public String getTable(final Workbook wb) {
         final Iterator<Row> rows = wb.getSheetAt(0).rowIterator();
         final StringBuilder table = new StringBuilder();
+        final DataFormatter formatter = new DataFormatter();
 
         while (rows.hasNext()) {
             final Row row = rows.next();
@@ -222,7 +248,7 @@ public class XlsBuilderTest {
 
             while (cells.hasNext()) {
                 final Cell cell = cells.next();
-                table.append(cell.getStringCellValue());
+                table.append(formatter.formatCellValue(cell));
                 if (cells.hasNext()) {
                     table.append("|");
                 }
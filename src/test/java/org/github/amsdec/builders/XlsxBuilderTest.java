@@ -1,10 +1,19 @@
 package org.github.amsdec.builders;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.Iterator;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
 
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DataFormatter;
 import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.github.amsdec.PurchaseOrderStringParser;
 import org.junit.Assert;
 import org.junit.Before;
@@ -41,7 +50,29 @@ public class XlsxBuilderTest {
         this.parser.parse("10001");
 
         this.assertTable("" //
-                + "Número de orden de compra|10001"//
+                + "N\u00famero de orden de compra|10001"//
+                + "");
+    }
+
+    @Test
+    public void englishLabelsGenerateEnglishTable() {
+        this.builder = new XlsxBuilder(Labels.forLocale(Locale.ENGLISH));
+        this.parser = new PurchaseOrderStringParser(this.builder);
+
+        this.parser.parse("10001|2021-10-22 17:13:31|Ofificina\nFOC140516174\n\nP1|5|Tornillos");
+
+        this.assertTable("" //
+                + "Purchase order number|10001\n"//
+                + "Date|2021-10-22 17:13:31\n" //
+                + "Deliver to|Ofificina\n" //
+                + "\n" //
+                + "Requestor\n" //
+                + "RFC|Name\n" //
+                + "FOC140516174\n" //
+                + "\n" //
+                + "Products\n" //
+                + "ID|Description|Quantity\n" //
+                + "P1|Tornillos|5" //
                 + "");
     }
 
@@ -50,7 +81,7 @@ public class XlsxBuilderTest {
         this.parser.parse("10001|2021-10-22 17:13:31");
 
         this.assertTable("" //
-                + "Número de orden de compra|10001\n"//
+                + "N\u00famero de orden de compra|10001\n"//
                 + "Fecha|2021-10-22 17:13:31" //
                 + "");
     }
@@ -60,7 +91,7 @@ public class XlsxBuilderTest {
         this.parser.parse("10001|2021-10-22 17:13:31|Ofificina");
 
         this.assertTable("" //
-                + "Número de orden de compra|10001\n"//
+                + "N\u00famero de orden de compra|10001\n"//
                 + "Fecha|2021-10-22 17:13:31\n" //
                 + "Entregar en|Ofificina" //
                 + "");
@@ -72,7 +103,7 @@ public class XlsxBuilderTest {
                 + "FOC140516174");
 
         this.assertTable("" //
-                + "Número de orden de compra|10001\n"//
+                + "N\u00famero de orden de compra|10001\n"//
                 + "Fecha|2021-10-22 17:13:31\n" //
                 + "Entregar en|Ofificina\n" //
                 + "\n" //
@@ -89,7 +120,7 @@ public class XlsxBuilderTest {
                 + "FOC140516174|Focaltec S.A.P.I. de C.V.");
 
         this.assertTable("" //
-                + "Número de orden de compra|10001\n"//
+                + "N\u00famero de orden de compra|10001\n"//
                 + "Fecha|2021-10-22 17:13:31\n" //
                 + "Entregar en|Ofificina\n" //
                 + "\n" //
@@ -107,7 +138,7 @@ public class XlsxBuilderTest {
                 + "MOSA8311152G0|Alberto Montellano Sandoval");
 
         this.assertTable("" //
-                + "Número de orden de compra|10001\n"//
+                + "N\u00famero de orden de compra|10001\n"//
                 + "Fecha|2021-10-22 17:13:31\n" //
                 + "Entregar en|Ofificina\n" //
                 + "\n" //
@@ -130,7 +161,7 @@ public class XlsxBuilderTest {
                 + "P1234567890");
 
         this.assertTable("" //
-                + "Número de orden de compra|10001\n"//
+                + "N\u00famero de orden de compra|10001\n"//
                 + "Fecha|2021-10-22 17:13:31\n" //
                 + "Entregar en|Ofificina\n" //
                 + "\n" //
@@ -143,7 +174,7 @@ public class XlsxBuilderTest {
                 + "MOSA8311152G0|Alberto Montellano Sandoval\n" //
                 + "\n" //
                 + "Productos\n" //
-                + "ID|Descripción|Cantidad\n" //
+                + "ID|Descripci\u00f3n|Cantidad\n" //
                 + "P1234567890|P1234567890|0" //
                 + "");
     }
@@ -157,7 +188,7 @@ public class XlsxBuilderTest {
                 + "P1234567890|5|Caja de 100 tornillos");
 
         this.assertTable("" //
-                + "Número de orden de compra|10001\n"//
+                + "N\u00famero de orden de compra|10001\n"//
                 + "Fecha|2021-10-22 17:13:31\n" //
                 + "Entregar en|Ofificina\n" //
                 + "\n" //
@@ -170,7 +201,7 @@ public class XlsxBuilderTest {
                 + "MOSA8311152G0|Alberto Montellano Sandoval\n" //
                 + "\n" //
                 + "Productos\n" //
-                + "ID|Descripción|Cantidad\n" //
+                + "ID|Descripci\u00f3n|Cantidad\n" //
                 + "P1234567890|Caja de 100 tornillos|5" //
                 + "");
     }
@@ -187,7 +218,7 @@ public class XlsxBuilderTest {
                 + "");
 
         this.assertTable("" //
-                + "Número de orden de compra|10001\n"//
+                + "N\u00famero de orden de compra|10001\n"//
                 + "Fecha|2021-10-22 17:13:31\n" //
                 + "Entregar en|Ofificina\n" //
                 + "\n" //
@@ -200,13 +231,112 @@ public class XlsxBuilderTest {
                 + "MOSA8311152G0|Alberto Montellano Sandoval\n" //
                 + "\n" //
                 + "Productos\n" //
-                + "ID|Descripción|Cantidad\n" //
+                + "ID|Descripci\u00f3n|Cantidad\n" //
                 + "P1234567890|Caja de 100 tornillos|5\n" //
                 + "P0000012345|Caja de 100 tuercas|5\n" //
                 + "P0000056789|Caja de 100 arandelas|5" //
                 + "");
     }
 
+    @Test
+    public void resetStartsNextOrderOnEmptySheet() {
+        this.parser.parse("" //
+                + "10001|2021-10-22 17:13:31|Ofificina\n" //
+                + "FOC140516174|Focaltec S.A.P.I. de C.V.\n" //
+                + "MOSA8311152G0|Alberto Montellano Sandoval\n" //
+                + "P1234567890|5|Caja de 100 tornillos");
+
+        this.builder.reset();
+        this.parser.parse("10002\n\n\nP1|1|Uno");
+
+        Assert.assertEquals(1, this.builder.getWb().getNumberOfSheets());
+        this.assertTable("" //
+                + "N\u00famero de orden de compra|10002\n"//
+                + "\n" //
+                + "Productos\n" //
+                + "ID|Descripci\u00f3n|Cantidad\n" //
+                + "P1|Uno|1" //
+                + "");
+    }
+
+    @Test
+    public void resetKeepsPreviousWorkbookIntact() {
+        this.parser.parse("10001\n\n\nP1|1|Uno");
+        final Workbook first = this.builder.detachWorkbook();
+
+        this.builder.reset();
+        this.parser.parse("10002");
+
+        Assert.assertNotSame(first, this.builder.getWb());
+        Assert.assertEquals("" //
+                + "N\u00famero de orden de compra|10001\n"//
+                + "\n" //
+                + "Productos\n" //
+                + "ID|Descripci\u00f3n|Cantidad\n" //
+                + "P1|Uno|1" //
+                + "", this.getTable(first));
+        this.assertTable("N\u00famero de orden de compra|10002");
+    }
+
+    @Test
+    public void resetWithoutSupplierClearsSameWorkbook() {
+        final Workbook wb = new XSSFWorkbook();
+        final ExcelBuilder builder = new ExcelBuilder(wb) {
+        };
+        final PurchaseOrderStringParser parser = new PurchaseOrderStringParser(builder);
+        parser.parse("10001\n\n\nP1|1|Uno");
+
+        builder.reset();
+        parser.parse("10002");
+
+        Assert.assertSame(wb, builder.getWb());
+        Assert.assertEquals(1, wb.getNumberOfSheets());
+        Assert.assertEquals("N\u00famero de orden de compra|10002", this.getTable(wb));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void resetAfterDetachWithoutSupplierIsRejected() {
+        final ExcelBuilder builder = new ExcelBuilder(new XSSFWorkbook()) {
+        };
+        builder.detachWorkbook();
+
+        builder.reset();
+    }
+
+    @Test
+    public void quantitiesAreWrittenAsNumericCells() {
+        this.parser.parse("" //
+                + "10001\n" //
+                + "\n" //
+                + "\n" //
+                + "P1|5|Uno\n" //
+                + "P2\n" //
+                + "P3|cinco|Tres\n" //
+                + "");
+
+        final Sheet sheet = this.builder.getWb().getSheetAt(0);
+        final int firstProduct = sheet.getLastRowNum() - 2;
+
+        Assert.assertEquals(CellType.NUMERIC, sheet.getRow(firstProduct).getCell(2).getCellType());
+        Assert.assertEquals(5, sheet.getRow(firstProduct).getCell(2).getNumericCellValue(), 0);
+        Assert.assertEquals(CellType.NUMERIC, sheet.getRow(firstProduct + 1).getCell(2).getCellType());
+        Assert.assertEquals(0, sheet.getRow(firstProduct + 1).getCell(2).getNumericCellValue(), 0);
+        Assert.assertEquals(CellType.STRING, sheet.getRow(firstProduct + 2).getCell(2).getCellType());
+        Assert.assertEquals("cinco", sheet.getRow(firstProduct + 2).getCell(2).getStringCellValue());
+    }
+
+    @Test
+    public void writeToWithGzipCodecCompressesReadableWorkbook() throws IOException {
+        this.parser.parse("10001\n\n\nP1|1|Uno");
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        this.builder.writeTo(out, OutputCodec.GZIP);
+
+        try (Workbook wb = new XSSFWorkbook(new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())))) {
+            Assert.assertEquals(this.getTable(this.builder.getWb()), this.getTable(wb));
+        }
+    }
+
     private void assertTable(final String expected) {
         Assert.assertEquals(expected, this.getTable(this.builder.getWb()));
     }
@@ -214,6 +344,7 @@ public class XlsxBuilderTest {
     public String getTable(final Workbook wb) {
         final Iterator<Row> rows = wb.getSheetAt(0).rowIterator();
         final StringBuilder table = new StringBuilder();
+        final DataFormatter formatter = new DataFormatter();
 
         while (rows.hasNext()) {
             final Row row = rows.next();
@@ -222,7 +353,7 @@ public class XlsxBuilderTest {
 
             while (cells.hasNext()) {
                 final Cell cell = cells.next();
-                table.append(cell.getStringCellValue());
+                table.append(formatter.formatCellValue(cell));
                 if (cells.hasNext()) {
                     table.append("|");
                 }
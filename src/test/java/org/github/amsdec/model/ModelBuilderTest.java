@@ -0,0 +1,149 @@
+package org.github.amsdec.model;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.github.amsdec.PurchaseOrderStringParser;
+import org.github.amsdec.builders.DomBuilder;
+import org.github.amsdec.builders.DomBuilderTest;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ModelBuilderTest {
+
+    private static final String ORDER = "" //
+            + "10001|2021-10-22 17:13:31|Ofificina\n" //
+            + "FOC140516174|Focaltec S.A.P.I. de C.V.\n" //
+            + "MOSA8311152G0|Alberto Montellano Sandoval\n" //
+            + "P1234567890|5|Caja de 100 tornillos\n" //
+            + "P0000012345|12|Caja de 100 tornillos\n" //
+            + "P0000056789\n" //
+            + "P0000099999||Caja de 100 arandelas\n" //
+            + "";
+
+    private ModelBuilder builder;
+
+    private PurchaseOrderStringParser parser;
+
+    @Before
+    public void setup() {
+        this.builder = new ModelBuilder();
+        this.parser = new PurchaseOrderStringParser(this.builder);
+    }
+
+    @Test
+    public void emptyOrderBuildsEmptyModel() {
+        this.parser.parse("");
+
+        final PurchaseOrder order = this.builder.build();
+
+        Assert.assertNull(order.getNumber());
+        Assert.assertNull(order.getRequestorRfc());
+        Assert.assertEquals(0, order.getProductCount());
+    }
+
+    @Test
+    public void fullOrderBuildsModelWithAllFields() {
+        this.parser.parse(ORDER);
+
+        final PurchaseOrder order = this.builder.build();
+
+        Assert.assertEquals("10001", order.getNumber());
+        Assert.assertEquals("2021-10-22 17:13:31", order.getDate());
+        Assert.assertEquals("Ofificina", order.getDeliveryAddress());
+        Assert.assertEquals("FOC140516174", order.getRequestorRfc());
+        Assert.assertEquals("Focaltec S.A.P.I. de C.V.", order.getRequestorName());
+        Assert.assertEquals("MOSA8311152G0", order.getProviderRfc());
+        Assert.assertEquals("Alberto Montellano Sandoval", order.getProviderName());
+
+        Assert.assertEquals(4, order.getProductCount());
+        Assert.assertEquals("P0000012345", order.getProductId(1));
+        Assert.assertEquals(12L, order.getProductQuantity(1));
+        Assert.assertEquals("Caja de 100 tornillos", order.getProductDescription(1));
+        Assert.assertEquals(0L, order.getProductQuantity(2));
+        Assert.assertEquals("P0000056789", order.getProductDescription(2));
+        Assert.assertEquals(0L, order.getProductQuantity(3));
+        Assert.assertEquals("Caja de 100 arandelas", order.getProductDescription(3));
+    }
+
+    @Test
+    public void repeatedDescriptionsAreStoredOnce() {
+        this.parser.parse(ORDER);
+
+        Assert.assertEquals(2, this.builder.build().getDistinctDescriptionCount());
+    }
+
+    @Test
+    public void replayGeneratesSameDocumentAsParsing() throws ParserConfigurationException {
+        this.parser.parse(ORDER);
+
+        final DomBuilder parsed = new DomBuilder();
+        new PurchaseOrderStringParser(parsed).parse(ORDER);
+
+        final DomBuilder replayed = new DomBuilder();
+        this.builder.build().replay(replayed);
+
+        final DomBuilderTest domBuilderTest = new DomBuilderTest();
+        Assert.assertEquals(domBuilderTest.getXml(parsed.getDoc()), domBuilderTest.getXml(replayed.getDoc()));
+    }
+
+    @Test
+    public void negativeQuantityIsReplayedAsNumber() throws ParserConfigurationException {
+        this.parser.parse("10001\n\n\nP1|-1|x");
+
+        final DomBuilder replayed = new DomBuilder();
+        this.builder.build().replay(replayed);
+
+        Assert.assertEquals("" //
+                + "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>" //
+                + "<PurchaseOrder number=\"10001\">" //
+                + "<Products>" //
+                + "<Product description=\"x\" id=\"P1\" quantity=\"-1\"/>" //
+                + "</Products>" //
+                + "</PurchaseOrder>" //
+                + "", new DomBuilderTest().getXml(replayed.getDoc()));
+    }
+
+    @Test
+    public void builtModelIsNotChangedByReset() {
+        this.parser.parse(ORDER);
+        final PurchaseOrder first = this.builder.build();
+
+        this.builder.reset();
+        this.parser.parse("10002\n\n\nP1|1|Uno");
+        final PurchaseOrder second = this.builder.build();
+
+        Assert.assertEquals("10001", first.getNumber());
+        Assert.assertEquals(4, first.getProductCount());
+        Assert.assertEquals("Caja de 100 tornillos", first.getProductDescription(0));
+        Assert.assertEquals("10002", second.getNumber());
+        Assert.assertNull(second.getDate());
+        Assert.assertEquals(1, second.getProductCount());
+        Assert.assertEquals("Uno", second.getProductDescription(0));
+        Assert.assertEquals(1, second.getDistinctDescriptionCount());
+    }
+
+    @Test
+    public void nonNumericQuantitiesKeepTheirText() throws ParserConfigurationException {
+        final String order = "10001\n\n\nP1|cinco|Uno\nP2|1234567890123456789|Dos\nP3|7|Tres";
+        this.parser.parse(order);
+
+        final PurchaseOrder built = this.builder.build();
+
+        Assert.assertFalse(built.isProductQuantityNumeric(0));
+        Assert.assertEquals("cinco", built.getProductQuantityText(0));
+        Assert.assertFalse(built.isProductQuantityNumeric(1));
+        Assert.assertEquals("1234567890123456789", built.getProductQuantityText(1));
+        Assert.assertTrue(built.isProductQuantityNumeric(2));
+        Assert.assertEquals(7L, built.getProductQuantity(2));
+        Assert.assertEquals("7", built.getProductQuantityText(2));
+
+        final DomBuilder parsed = new DomBuilder();
+        new PurchaseOrderStringParser(parsed).parse(order);
+        final DomBuilder replayed = new DomBuilder();
+        built.replay(replayed);
+
+        final DomBuilderTest domBuilderTest = new DomBuilderTest();
+        Assert.assertEquals(domBuilderTest.getXml(parsed.getDoc()), domBuilderTest.getXml(replayed.getDoc()));
+    }
+}